@@ -0,0 +1,69 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SistemaProyectiles.comprobarColisiones con P proyectiles y E enemigos.
+ * Los proyectiles se colocan cerca de los enemigos pero sin tocarlos, de modo que
+ * cada invocacion hace las mismas consultas a la grilla (ninguno impacta y el
+ * estado no cambia entre invocaciones).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColisionesProyectilesBenchmark {
+
+    private static final float LADO_MAPA = 4800f;
+
+    @Param({"10", "100", "500"})
+    public int proyectiles;
+
+    @Param({"100", "1000", "5000"})
+    public int enemigos;
+
+    private final SistemaProyectiles sistema = new SistemaProyectiles();
+    private GrillaEnemigos grilla;
+
+    @Setup
+    public void preparar() {
+        Jugador jugador = new Jugador("Objetivo", Integer.MAX_VALUE, 0, 0f, 0f, 32f, 32f, 1);
+        Random random = new Random(11L);
+
+        grilla = new GrillaEnemigos();
+        for (int i = 0; i < enemigos; i++) {
+            grilla.agregar(new Minotauro(random.nextFloat() * LADO_MAPA, random.nextFloat() * LADO_MAPA, jugador));
+        }
+
+        sistema.limpiar();
+        List<Enemigo> tocados = new ArrayList<>();
+        Rectangle hitbox = new Rectangle();
+        while (sistema.size() < proyectiles) {
+            sistema.lanzarHechizo(random.nextFloat() * LADO_MAPA, random.nextFloat() * LADO_MAPA,
+                false, 10, 400f, 1f, 50f, false);
+            int ultimo = sistema.size() - 1;
+            tocados.clear();
+            if (!grilla.consultarRectangulo(sistema.getHitbox(ultimo, hitbox), tocados).isEmpty()) {
+                // Toca a un enemigo: se descarta y se prueba otra posicion
+                sistema.eliminar(ultimo);
+            }
+        }
+    }
+
+    @Benchmark
+    public void comprobarColisiones() {
+        sistema.comprobarColisiones(grilla);
+    }
+}
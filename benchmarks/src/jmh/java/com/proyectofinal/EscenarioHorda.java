@@ -0,0 +1,98 @@
+package com.proyectofinal;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Escenario comun de los benchmarks de minotauros: el jugador queda quieto en
+ * el centro del mapa y la horda se reparte en un anillo a su alrededor, todos
+ * dentro de Minotauro.DETECTION_RANGE y fuera de Minotauro.ATTACK_RANGE, asi
+ * que cada tick mide la persecucion completa (movimiento, vecinos, grilla) y
+ * no la rama IDLE.
+ *
+ * Como los minotauros se acercan al jugador, cada TICKS_POR_RONDA ticks se
+ * vuelven a las posiciones iniciales. En una ronda avanzan a lo sumo unos
+ * 190 px, de modo que ninguno llega al rango de ataque.
+ */
+final class EscenarioHorda {
+
+    static final float DELTA = 1f / 60f;
+    static final float LADO_MAPA = 4800f;
+    static final float JUGADOR_X = LADO_MAPA / 2;
+    static final float JUGADOR_Y = LADO_MAPA / 2;
+
+    // Anillo donde aparecen los minotauros, medido desde el jugador
+    static final float RADIO_MINIMO = 300f;
+    static final float RADIO_MAXIMO = 1500f;
+
+    // Ticks entre cada vuelta a las posiciones iniciales (2 s a 60 FPS)
+    static final int TICKS_POR_RONDA = 120;
+
+    private final float[] xInicial;
+    private final float[] yInicial;
+    private int tick;
+
+    EscenarioHorda(int cantidad, long semilla) {
+        xInicial = new float[cantidad];
+        yInicial = new float[cantidad];
+        Random random = new Random(semilla);
+        float min2 = RADIO_MINIMO * RADIO_MINIMO;
+        float max2 = RADIO_MAXIMO * RADIO_MAXIMO;
+        for (int i = 0; i < cantidad; i++) {
+            // Uniforme en area dentro del anillo
+            float radio = (float) Math.sqrt(min2 + random.nextFloat() * (max2 - min2));
+            float angulo = random.nextFloat() * (float) (Math.PI * 2);
+            xInicial[i] = JUGADOR_X + radio * (float) Math.cos(angulo);
+            yInicial[i] = JUGADOR_Y + radio * (float) Math.sin(angulo);
+        }
+    }
+
+    /** Jugador objetivo; con vida de sobra por si algun minotauro lo alcanzara. */
+    static Jugador crearJugador() {
+        return new Jugador("Objetivo", Integer.MAX_VALUE, 0, JUGADOR_X, JUGADOR_Y, 32f, 32f, 1);
+    }
+
+    /**
+     * Crea los minotauros en sus posiciones iniciales y los registra en la grilla
+     * (y en el planificador, si no es null).
+     */
+    void crearMinotauros(Jugador jugador, GrillaEnemigos grilla, PlanificadorLOD lod, List<Enemigo> salida) {
+        salida.clear();
+        for (int i = 0; i < xInicial.length; i++) {
+            Minotauro m = new Minotauro(xInicial[i], yInicial[i], jugador);
+            m.estadoActual = Enemigo.EstadoEnemigo.RUNNING;
+            salida.add(m);
+            grilla.agregar(m);
+            if (lod != null) lod.registrar(m);
+        }
+    }
+
+    /** Carga los minotauros en el almacen compacto en sus posiciones iniciales. */
+    void cargar(SistemaMinotauros minotauros) {
+        minotauros.limpiar();
+        for (int i = 0; i < xInicial.length; i++) {
+            minotauros.agregar(xInicial[i], yInicial[i]);
+        }
+    }
+
+    /**
+     * Cuenta un tick; al completar una ronda devuelve los minotauros a sus
+     * posiciones iniciales.
+     */
+    void avanzar(List<Enemigo> enemigos, GrillaEnemigos grilla) {
+        if (++tick < TICKS_POR_RONDA) return;
+        tick = 0;
+        for (int i = 0; i < enemigos.size(); i++) {
+            Enemigo e = enemigos.get(i);
+            e.reiniciar(xInicial[i], yInicial[i]);
+            grilla.actualizar(e);
+        }
+    }
+
+    /** Igual que avanzar(List, GrillaEnemigos), para el almacen compacto. */
+    void avanzar(SistemaMinotauros minotauros) {
+        if (++tick < TICKS_POR_RONDA) return;
+        tick = 0;
+        cargar(minotauros);
+    }
+}
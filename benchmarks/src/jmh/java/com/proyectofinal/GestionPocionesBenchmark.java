@@ -0,0 +1,44 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de GestionPociones.actualizar a 60 Hz: temporizador de aparicion,
+ * animacion de cada pocion, colision con el jugador y expiracion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GestionPocionesBenchmark {
+
+    private static final float DELTA = 1f / 60f;
+
+    private GestionPociones gestion;
+    private Jugador jugador;
+    private final Rectangle boundsJugador = new Rectangle();
+
+    @Setup
+    public void preparar() {
+        MapaProcedural mapa = new MapaProcedural(150, 150, 12345L, 75, 75);
+        jugador = new Jugador("Objetivo", 100, 0, 2400f, 2400f, 32f, 32f, 1);
+        boundsJugador.set(jugador.getX(), jugador.getY(), jugador.getWidth(), jugador.getHeight());
+
+        gestion = new GestionPociones(mapa);
+        gestion.setAreaVisible(new Rectangle(2400f - 240f, 2400f - 144f, 480f, 288f));
+    }
+
+    @Benchmark
+    public int actualizar() {
+        gestion.actualizar(DELTA, boundsJugador, jugador);
+        return gestion.getPociones().size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.proyectofinal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generacion del mapa procedural.
+ * construir() mide la generacion completa (terreno, caminos, overlays, elementos e indice);
+ * generarElementos() mide solo la colocacion de arboles y piedras sobre un terreno ya hecho.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapaProceduralBenchmark {
+
+    private static final long SEMILLA = 12345L;
+
+    // Lado del mapa en tiles (el juego usa 150)
+    @Param({"50", "150", "300"})
+    public int tamano;
+
+    private MapaProcedural mapa;
+
+    @Setup
+    public void preparar() {
+        mapa = new MapaProcedural(tamano, tamano, SEMILLA, tamano / 2, tamano / 2);
+    }
+
+    @Benchmark
+    public MapaProcedural construir() {
+        return new MapaProcedural(tamano, tamano, SEMILLA, tamano / 2, tamano / 2);
+    }
+
+    @Benchmark
+    public int generarElementos() {
+        mapa.regenerarElementos();
+        return mapa.getArboles().size();
+    }
+}
@@ -0,0 +1,52 @@
+package com.proyectofinal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de Enemigo.update sobre N minotauros registrados en la grilla, con
+ * la publicacion de estado para los vecinos que hace el juego al final del tick.
+ * Todos persiguen al jugador en cada invocacion (ver EscenarioHorda).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MinotaurosBenchmark {
+
+    @Param({"100", "1000", "5000", "10000"})
+    public int cantidad;
+
+    private final List<Enemigo> enemigos = new ArrayList<>();
+    private GrillaEnemigos grilla;
+    private EscenarioHorda escenario;
+
+    @Setup
+    public void preparar() {
+        grilla = new GrillaEnemigos();
+        escenario = new EscenarioHorda(cantidad, 7L);
+        escenario.crearMinotauros(EscenarioHorda.crearJugador(), grilla, null, enemigos);
+    }
+
+    @Benchmark
+    public int actualizar() {
+        for (int i = 0; i < enemigos.size(); i++) {
+            enemigos.get(i).update(EscenarioHorda.DELTA, EscenarioHorda.JUGADOR_X, EscenarioHorda.JUGADOR_Y);
+        }
+        // Como el commit de TrabajosEnemigos: los vecinos leen este estado en el tick siguiente
+        for (int i = 0; i < enemigos.size(); i++) {
+            enemigos.get(i).publicarEstado();
+        }
+        escenario.avanzar(enemigos, grilla);
+        return grilla.size();
+    }
+}
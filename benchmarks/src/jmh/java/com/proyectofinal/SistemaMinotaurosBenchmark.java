@@ -0,0 +1,44 @@
+package com.proyectofinal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de SistemaMinotauros sobre N minotauros, con el mismo EscenarioHorda
+ * que MinotaurosBenchmark para comparar el almacen compacto contra los objetos:
+ * ambos persiguen, se separan y se alinean con las mismas reglas.
+ * A 60 FPS el tick de 10.000 minotauros debe quedar muy por debajo de 16 ms.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SistemaMinotaurosBenchmark {
+
+    @Param({"100", "1000", "5000", "10000"})
+    public int cantidad;
+
+    private SistemaMinotauros minotauros;
+    private EscenarioHorda escenario;
+
+    @Setup
+    public void preparar() {
+        minotauros = new SistemaMinotauros(7L);
+        escenario = new EscenarioHorda(cantidad, 7L);
+        escenario.cargar(minotauros);
+    }
+
+    @Benchmark
+    public int actualizar() {
+        int danio = minotauros.actualizar(EscenarioHorda.DELTA, EscenarioHorda.JUGADOR_X, EscenarioHorda.JUGADOR_Y);
+        escenario.avanzar(minotauros);
+        return danio + minotauros.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de TrabajosEnemigos sobre N minotauros con 1 (en serie) o varios hilos,
+ * con el mismo EscenarioHorda que MinotaurosBenchmark. La vista cubre todo el
+ * mapa para que todos sean de nivel cercano y se actualicen completos en cada tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrabajosEnemigosBenchmark {
+
+    @Param({"1000", "10000"})
+    public int cantidad;
+
+    @Param({"1", "2", "4", "8"})
+    public int hilos;
+
+    private final List<Enemigo> enemigos = new ArrayList<>();
+    private final Rectangle vista = new Rectangle(0f, 0f, EscenarioHorda.LADO_MAPA, EscenarioHorda.LADO_MAPA);
+    private GrillaEnemigos grilla;
+    private PlanificadorLOD lod;
+    private TrabajosEnemigos trabajos;
+    private EscenarioHorda escenario;
+
+    @Setup
+    public void preparar() {
+        grilla = new GrillaEnemigos();
+        lod = new PlanificadorLOD();
+        trabajos = new TrabajosEnemigos(hilos);
+        escenario = new EscenarioHorda(cantidad, 7L);
+        escenario.crearMinotauros(EscenarioHorda.crearJugador(), grilla, lod, enemigos);
+    }
+
+    @TearDown
+    public void liberar() {
+        trabajos.dispose();
+    }
+
+    @Benchmark
+    public int actualizar() {
+        lod.comenzarTick(vista);
+        trabajos.actualizar(enemigos, grilla, lod, EscenarioHorda.DELTA,
+            EscenarioHorda.JUGADOR_X, EscenarioHorda.JUGADOR_Y, null);
+        escenario.avanzar(enemigos, grilla);
+        return grilla.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Conjunto inmutable de animaciones de un tipo de enemigo.
+ * Una misma instancia es compartida por todos los enemigos del mismo tipo,
+ * por eso no expone ningun metodo que permita modificarla.
+ */
+public final class AnimacionesEnemigo {
+
+    // Una animacion por cada valor de EstadoEnemigo (indexado por ordinal)
+    private final Animation<TextureRegion>[] animaciones;
+
+    AnimacionesEnemigo(Animation<TextureRegion>[] animaciones) {
+        this.animaciones = animaciones;
+    }
+
+    /**
+     * Devuelve la animacion correspondiente a un estado del enemigo.
+     * @param estado estado actual del enemigo
+     * @return animacion compartida para ese estado
+     */
+    public Animation<TextureRegion> getAnimacion(Enemigo.EstadoEnemigo estado) {
+        return animaciones[estado.ordinal()];
+    }
+}
@@ -1,6 +1,5 @@
 package com.proyectofinal;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 
 /**
@@ -9,8 +8,17 @@ import com.badlogic.gdx.math.Rectangle;
  */
 public class Arbol extends ElementoDeMapa {
 
-    public Arbol(Texture texture) {
-        this.texture = texture;
+    // Tamaño de las imagenes Mapa/Pasto/arbol_N.png
+    public static final float ANCHO = 128f;
+    public static final float ALTO = 192f;
+
+    /**
+     * @param rutaTextura ruta de la imagen del arbol dentro de assets
+     */
+    public Arbol(String rutaTextura) {
+        this.rutaTextura = rutaTextura;
+        this.ancho = ANCHO;
+        this.alto = ALTO;
         this.collider = new Rectangle();  // Se inicializa el collider del tronco
     }
 
@@ -24,15 +32,15 @@ public class Arbol extends ElementoDeMapa {
         this.posX = x;
         this.posY = y;
 
-        // Calculamos el tamaño del collider basado en la textura:
-        float troncoWidth = texture.getWidth() * 0.2f;   // El tronco mide un 20% del ancho total
-        float troncoHeight = texture.getHeight() * 0.1f; // El tronco mide un 10% del alto total
+        // Calculamos el tamaño del collider basado en el tamaño del sprite:
+        float troncoWidth = ancho * 0.2f;   // El tronco mide un 20% del ancho total
+        float troncoHeight = alto * 0.1f; // El tronco mide un 10% del alto total
 
         // Centramos el collider horizontalmente (40% desde la izquierda lo coloca centrado con 20% de ancho)
-        float troncoX = x + (texture.getWidth() * 0.4f);
+        float troncoX = x + (ancho * 0.4f);
 
         // Elevamos un poco el collider para que no esté en la base exacta del árbol
-        float troncoY = y + (texture.getHeight() * 0.15f); // A 15% desde abajo
+        float troncoY = y + (alto * 0.15f); // A 15% desde abajo
 
         // Establecemos el collider con la posición y tamaño calculado
         this.collider.set(troncoX, troncoY, troncoWidth, troncoHeight);
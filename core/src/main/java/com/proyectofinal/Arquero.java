@@ -1,6 +1,5 @@
 package com.proyectofinal;
 
-import java.util.List;
 
 /**
  * Clase que representa a un jugador del tipo Arquero.
@@ -52,7 +51,7 @@ public class Arquero extends Jugador implements RecargableInterface {
 
     /**
      * Atajo para ejecutar un ataque sin necesidad de pasar lista de enemigos.
-     * Usado cuando la colisión se maneja en otro lugar (como FlechaActor).
+     * Usado cuando la colisión se maneja en otro lugar (como SistemaProyectiles).
      * @return true si se pudo disparar, false si no hay flechas
      */
     public boolean ataque1() {
@@ -62,17 +61,18 @@ public class Arquero extends Jugador implements RecargableInterface {
     /**
      * Realiza un ataque disparando una flecha.
      * Si no está en modo ilimitado, consume una flecha.
-     * @param enemigos Lista de enemigos (puede ser null si no se usa aquí)
+     * @param enemigos Indice de enemigos (puede ser null si no se usa aquí)
      * @return true si se realizó el disparo, false si no fue posible
      */
-    public boolean atacar(List<? extends Enemigo> enemigos) {
+    @Override
+    public boolean atacar(GrillaEnemigos enemigos) {
         if (modoIlimitado || flechas > 0) {
             if (!modoIlimitado) {
                 flechas--;
             }
             System.out.println(getNombre() + " dispara una flecha con precisión " + precision +
                 ". Flechas restantes: " + flechas);
-            // La lógica real del impacto la maneja FlechaActor
+            // La lógica real del impacto la maneja SistemaProyectiles
             return true;
         } else {
             System.out.println(getNombre() + " no tiene flechas disponibles.");
@@ -0,0 +1,226 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Atlas de texturas del juego.
+ * Empaqueta en una o pocas paginas todos los sprites de personajes, enemigos,
+ * proyectiles, pociones y tiles del mapa, de modo que el SpriteBatch no tenga
+ * que cambiar de textura (y vaciarse) en cada dibujo.
+ *
+ * Las imagenes las decodifica PantallaCarga con el AssetManager (en hilos de
+ * fondo) y se agregan aqui con empaquetar(); actualizarPaginas() sube las
+ * paginas a la GPU. El atlas crece con cada carga: si luego se elige otra clase
+ * solo se empaquetan los sprites que faltan.
+ *
+ * Las regiones se buscan con la misma ruta que antes se pasaba a new Texture(...),
+ * por ejemplo "Pociones/pocionHP.png".
+ *
+ * Sin contexto grafico (simulacion sin ventana) no se carga nada y las regiones son null.
+ */
+public final class AtlasJuego {
+
+    // Archivo generado por la tarea generateAssetList de Gradle
+    private static final String MANIFIESTO = "assets.txt";
+    private static final int TAMANO_PAGINA = 2048;
+    private static final int PADDING = 2;
+
+    // Prefijos de las rutas que se empaquetan en el atlas, comunes a todas las clases
+    private static final String[] PREFIJOS_COMUNES = {
+        "Enemigos/Minotauro/",
+        "Pociones/",
+        "Mapa/Pasto/pasto",
+        "Mapa/Pasto/hierva",
+        "Mapa/Piedras/piedras"
+    };
+
+    // Los sprites de cada clase estan en PersonajesPrincipales/<Clase>/
+    private static final String PREFIJO_PERSONAJES = "PersonajesPrincipales/";
+
+    private static PixmapPacker packer;
+    private static final Map<String, TextureRegion> regiones = new HashMap<>();
+
+    // Rutas empaquetadas cuya region se crea en el proximo actualizarPaginas()
+    private static final List<String> pendientes = new ArrayList<>();
+
+    // Texturas cargadas por separado cuando una ruta no esta en el atlas
+    private static final List<Texture> texturasSueltas = new ArrayList<>();
+    private static TextureRegion regionVacia;
+
+    private AtlasJuego() { }
+
+    /** @return true si hay un contexto OpenGL donde crear texturas */
+    public static boolean hayGraficos() {
+        return Gdx.gl != null;
+    }
+
+    /**
+     * Rutas del manifiesto que van al atlas para jugar con la clase indicada:
+     * los sprites de esa clase mas enemigos, pociones y tiles del mapa.
+     * @param clase "Caballero", "Mago" o "Arquero"
+     */
+    public static List<String> rutasNecesarias(String clase) {
+        String[] prefijos = new String[PREFIJOS_COMUNES.length + 1];
+        System.arraycopy(PREFIJOS_COMUNES, 0, prefijos, 0, PREFIJOS_COMUNES.length);
+        prefijos[PREFIJOS_COMUNES.length] = PREFIJO_PERSONAJES + clase + "/";
+        return rutasDelManifiesto(prefijos);
+    }
+
+    /**
+     * Devuelve las imagenes del manifiesto cuya ruta empieza con alguno de los prefijos.
+     * Si el manifiesto no existe la lista queda vacia y las regiones se cargan
+     * una a una bajo demanda.
+     */
+    public static List<String> rutasDelManifiesto(String... prefijos) {
+        List<String> rutas = new ArrayList<>();
+        FileHandle manifiesto = Gdx.files.internal(MANIFIESTO);
+        if (!manifiesto.exists()) {
+            System.err.println("No se encontro " + MANIFIESTO + ", las texturas se cargaran por separado");
+            return rutas;
+        }
+        for (String linea : manifiesto.readString("UTF-8").split("\n")) {
+            String ruta = linea.trim().replace('\\', '/');
+            if (ruta.endsWith(".png") && empiezaConAlguno(ruta, prefijos)) {
+                rutas.add(ruta);
+            }
+        }
+        return rutas;
+    }
+
+    private static boolean empiezaConAlguno(String ruta, String[] prefijos) {
+        for (String prefijo : prefijos) {
+            if (ruta.startsWith(prefijo)) return true;
+        }
+        return false;
+    }
+
+    /** @return true si la ruta ya tiene region (en el atlas o como textura suelta) */
+    public static boolean contiene(String ruta) {
+        return regiones.containsKey(ruta) || pendientes.contains(ruta);
+    }
+
+    /**
+     * Copia una imagen ya decodificada dentro de las paginas del atlas. Solo
+     * trabaja en memoria: la subida a la GPU ocurre en actualizarPaginas().
+     * El pixmap sigue perteneciendo al llamador.
+     */
+    public static void empaquetar(String ruta, Pixmap pixmap) {
+        if (!hayGraficos() || contiene(ruta)) return;
+        if (packer == null) {
+            packer = new PixmapPacker(TAMANO_PAGINA, TAMANO_PAGINA, Pixmap.Format.RGBA8888,
+                PADDING, false, new PixmapPacker.SkylineStrategy());
+        }
+        try {
+            packer.pack(ruta, pixmap);
+            pendientes.add(ruta);
+        } catch (Exception e) {
+            System.err.println("No se pudo empaquetar " + ruta + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sube a la GPU las paginas nuevas o modificadas y crea las regiones de lo
+     * empaquetado desde la ultima llamada. Debe llamarse desde el hilo de render.
+     */
+    public static void actualizarPaginas() {
+        if (packer == null || pendientes.isEmpty()) return;
+
+        packer.updatePageTextures(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        for (String ruta : pendientes) {
+            Rectangle rect = packer.getRect(ruta);
+            PixmapPacker.Page pagina = packer.getPage(ruta);
+            if (rect == null || pagina == null) continue;
+            regiones.put(ruta, new TextureRegion(pagina.getTexture(),
+                (int) rect.x, (int) rect.y, (int) rect.width, (int) rect.height));
+        }
+        pendientes.clear();
+    }
+
+    /**
+     * Busca la region de una imagen por su ruta dentro de assets.
+     * Si no esta en el atlas se carga como textura independiente (y se reutiliza).
+     * @param ruta ruta de la imagen, por ejemplo "Pociones/pocionHP.png"
+     * @return region lista para dibujar; null solo si no hay graficos
+     */
+    public static TextureRegion region(String ruta) {
+        if (!hayGraficos()) return null;
+        TextureRegion region = regiones.get(ruta);
+        if (region != null) return region;
+
+        try {
+            Texture textura = new Texture(Gdx.files.internal(ruta));
+            texturasSueltas.add(textura);
+            region = new TextureRegion(textura);
+        } catch (Exception e) {
+            System.err.println("Error al cargar " + ruta + ": " + e.getMessage());
+            region = getRegionVacia();
+        }
+        regiones.put(ruta, region);
+        return region;
+    }
+
+    /**
+     * Devuelve una secuencia de frames numerados: prefijo + i + ".png".
+     * @param prefijo ruta comun de los frames, por ejemplo "Enemigos/Minotauro/Idle/"
+     * @param cantidad numero de frames
+     * @return arreglo con las regiones compartidas del atlas
+     */
+    public static TextureRegion[] frames(String prefijo, int cantidad) {
+        TextureRegion[] frames = new TextureRegion[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            frames[i] = region(prefijo + i + ".png");
+        }
+        return frames;
+    }
+
+    /**
+     * Igual que frames(), pero devuelve copias independientes de cada region.
+     * Se usa cuando el llamador necesita voltear los frames sin afectar al atlas.
+     */
+    public static TextureRegion[] copiaFrames(String prefijo, int cantidad) {
+        TextureRegion[] frames = frames(prefijo, cantidad);
+        for (int i = 0; i < frames.length; i++) {
+            if (frames[i] != null) frames[i] = new TextureRegion(frames[i]);
+        }
+        return frames;
+    }
+
+    /** Region transparente usada como respaldo cuando falla una carga. */
+    private static TextureRegion getRegionVacia() {
+        if (regionVacia == null) {
+            Texture vacia = new Texture(64, 64, Pixmap.Format.RGBA8888);
+            texturasSueltas.add(vacia);
+            regionVacia = new TextureRegion(vacia);
+        }
+        return regionVacia;
+    }
+
+    /** Libera las paginas del atlas y las texturas cargadas por separado. */
+    public static void dispose() {
+        if (packer != null) {
+            for (PixmapPacker.Page pagina : packer.getPages()) {
+                if (pagina.getTexture() != null) pagina.getTexture().dispose();
+            }
+            packer.dispose();
+            packer = null;
+        }
+        for (Texture t : texturasSueltas) {
+            t.dispose();
+        }
+        texturasSueltas.clear();
+        regiones.clear();
+        pendientes.clear();
+        regionVacia = null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registro de animaciones de enemigos (patron flyweight).
+ * Los frames de cada tipo de enemigo se buscan una sola vez en el AtlasJuego y
+ * el conjunto resultante se comparte entre todas las instancias, de modo que
+ * crear un enemigo nuevo no vuelve a leer ni a subir texturas a la GPU.
+ */
+public final class BibliotecaAnimacionesEnemigos {
+
+    // Nombre de la subcarpeta de cada estado, en el mismo orden que EstadoEnemigo
+    private static final String[] CARPETAS_ESTADO = {
+        "Idle", "Walk", "Run", "Attack", "Attack2", "Hit", "Death"
+    };
+
+    private static final Map<TipoEnemigo, AnimacionesEnemigo> conjuntos = new EnumMap<>(TipoEnemigo.class);
+
+    private BibliotecaAnimacionesEnemigos() { }
+
+    /**
+     * Devuelve el conjunto de animaciones compartido de un tipo de enemigo,
+     * creandolo la primera vez que se solicita.
+     * @param tipo tipo de enemigo
+     * @return conjunto inmutable de animaciones
+     */
+    public static AnimacionesEnemigo obtener(TipoEnemigo tipo) {
+        AnimacionesEnemigo conjunto = conjuntos.get(tipo);
+        if (conjunto == null) {
+            conjunto = cargar(tipo);
+            conjuntos.put(tipo, conjunto);
+        }
+        return conjunto;
+    }
+
+    /** Arma las animaciones de un tipo de enemigo a partir de las regiones del atlas. */
+    @SuppressWarnings("unchecked")
+    private static AnimacionesEnemigo cargar(TipoEnemigo tipo) {
+        Enemigo.EstadoEnemigo[] estados = Enemigo.EstadoEnemigo.values();
+        Animation<TextureRegion>[] animaciones = new Animation[estados.length];
+        for (Enemigo.EstadoEnemigo estado : estados) {
+            TextureRegion[] frames = AtlasJuego.frames(
+                tipo.getCarpeta() + CARPETAS_ESTADO[estado.ordinal()] + "/", tipo.getFrames(estado));
+            animaciones[estado.ordinal()] = new Animation<>(tipo.getDuracionFrame(), frames);
+        }
+        return new AnimacionesEnemigo(animaciones);
+    }
+
+    /**
+     * Olvida los conjuntos creados. Las regiones pertenecen al AtlasJuego,
+     * que es quien libera las texturas.
+     */
+    public static void dispose() {
+        conjuntos.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package com.proyectofinal;
 
+import java.util.ArrayList;
 import java.util.List;
 import com.badlogic.gdx.math.Rectangle;
 
@@ -24,10 +25,11 @@ public class Caballero extends Jugador implements RecargableInterface {
     private boolean hitboxActiva = false;         // ¿Está activa la hitbox de daño?
 
     private Rectangle hitboxAtaque = new Rectangle(); // Área que detecta colisiones con enemigos durante el ataque
+    private final List<Enemigo> golpeables = new ArrayList<>(); // Enemigos consultados a la grilla en cada golpe
 
     // ——— Cooldown entre ataques ———
-    private long tiempoUltimoAtaque = 0L;
-    private static final long COOLDOWN_MS = 500L; // Tiempo en milisegundos entre ataques
+    private static final float COOLDOWN = 0.5f;         // Tiempo en segundos entre ataques
+    private float tiempoDesdeUltimoAtaque = COOLDOWN;   // Tiempo simulado desde el último ataque
 
     /**
      * Constructor del Caballero.
@@ -48,12 +50,12 @@ public class Caballero extends Jugador implements RecargableInterface {
 
     /** Verifica si ha pasado el tiempo de cooldown para volver a atacar. */
     public boolean puedeAtacar() {
-        return System.currentTimeMillis() - tiempoUltimoAtaque >= COOLDOWN_MS;
+        return tiempoDesdeUltimoAtaque >= COOLDOWN;
     }
 
-    /** Registra el instante actual como momento del último ataque. */
+    /** Reinicia el cooldown: el último ataque ocurre ahora. */
     public void registrarAtaque() {
-        tiempoUltimoAtaque = System.currentTimeMillis();
+        tiempoDesdeUltimoAtaque = 0f;
     }
 
     /** Activa la animación e hitbox del ataque. */
@@ -89,7 +91,8 @@ public class Caballero extends Jugador implements RecargableInterface {
      * Ataca a todos los enemigos dentro de la hitbox activa.
      * Solo funciona si está atacando y la hitbox está activa.
      */
-    public boolean atacar(List<? extends Enemigo> enemigos) {
+    @Override
+    public boolean atacar(GrillaEnemigos enemigos) {
         if (!atacando || !hitboxActiva) return false;
 
         hitboxActiva = false;
@@ -99,14 +102,18 @@ public class Caballero extends Jugador implements RecargableInterface {
 
         System.out.println(getNombre() + " realiza un ataque demoledor!");
 
-        if (enemigos == null || enemigos.isEmpty()) {
+        if (enemigos == null || enemigos.size() == 0) {
             System.out.println("No hay enemigos para atacar");
             return false;
         }
 
+        // Solo se revisan los enemigos de las celdas que toca la hitbox de ataque
+        golpeables.clear();
+        enemigos.consultarRectangulo(hitboxAtaque, golpeables);
+
         int enemigosGolpeados = 0;
-        for (Enemigo e : enemigos) {
-            if (e.estaVivo() && estaEnRango(e)) {
+        for (Enemigo e : golpeables) {
+            if (e.estaVivo()) {
                 System.out.println("Aplicando daño al enemigo");
                 e.recibirDanio(getDanoBase());
                 enemigosGolpeados++;
@@ -117,20 +124,18 @@ public class Caballero extends Jugador implements RecargableInterface {
         return enemigosGolpeados > 0;
     }
 
-    /** Verifica si un enemigo está dentro del área de la hitbox. */
-    private boolean estaEnRango(Enemigo e) {
-        return hitboxAtaque.overlaps(e.getHitbox());
-    }
-
     // ——— ACTUALIZACIÓN GENERAL ———
 
     /**
      * Lógica que se ejecuta en cada frame:
      * - Maneja la animación del ataque
      * - Regenera escudo si no está completo
+     * - Avanza el cooldown entre ataques
      */
     @Override
     public void actualizar(float delta) {
+        tiempoDesdeUltimoAtaque += delta;
+
         if (atacando) {
             actualizarHitboxAtaque();
             tiempoAtaque += delta;
@@ -175,8 +180,13 @@ public class Caballero extends Jugador implements RecargableInterface {
         }
     }
 
-    /** Devuelve el estado actual del escudo en texto. */
-    public String getEscudo() {
-        return "Escudo: " + escudo + "/" + escudoMaximo;
+    /** Devuelve el escudo actual. */
+    public int getEscudo() {
+        return escudo;
+    }
+
+    /** Devuelve el escudo maximo. */
+    public int getEscudoMaximo() {
+        return escudoMaximo;
     }
 }
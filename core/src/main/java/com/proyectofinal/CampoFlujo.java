@@ -0,0 +1,234 @@
+package com.proyectofinal;
+
+import java.util.Arrays;
+
+/**
+ * Campo de flujo hacia el jugador sobre los tiles del mapa, compartido por
+ * todos los enemigos. Una busqueda en anchura desde el tile del jugador guarda
+ * en cada tile la distancia (en pasos) y la direccion del vecino por el que se
+ * llega antes al jugador; cada enemigo solo lee la direccion de su tile, asi que
+ * el costo de buscar caminos no depende de cuantos enemigos lo persiguen.
+ *
+ * Los tiles que tocan el collider (tronco) de un arbol estan bloqueados y no se
+ * cortan esquinas entre dos tiles bloqueados.
+ *
+ * Cuando el jugador cambia de tile el campo se reconstruye de forma incremental:
+ * cada tick se expanden a lo sumo PRESUPUESTO_POR_TICK tiles en un buffer aparte
+ * y mientras tanto los enemigos siguen usando el campo anterior; al terminar se
+ * intercambian los buffers.
+ */
+public class CampoFlujo {
+
+    /** Valor de direccion() cuando el tile no tiene camino conocido. */
+    public static final int SIN_DIRECCION = -1;
+
+    // Tiles expandidos como maximo por tick durante una reconstruccion
+    private static final int PRESUPUESTO_POR_TICK = 4096;
+
+    private static final int SIN_DISTANCIA = -1;
+
+    // Vecinos: 4 ortogonales y 4 diagonales
+    private static final int[] VECINO_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] VECINO_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+    // Direccion normalizada de cada vecino (la que sigue un enemigo hacia el jugador)
+    private static final float[] DIR_X = new float[8];
+    private static final float[] DIR_Y = new float[8];
+    static {
+        for (int d = 0; d < 8; d++) {
+            float largo = (float) Math.sqrt(VECINO_X[d] * VECINO_X[d] + VECINO_Y[d] * VECINO_Y[d]);
+            DIR_X[d] = VECINO_X[d] / largo;
+            DIR_Y[d] = VECINO_Y[d] / largo;
+        }
+    }
+
+    private final int ancho, alto;
+    private final float tamTile;
+    private final boolean[] bloqueado;
+
+    // Campo en uso por los enemigos
+    private int[] distancia;
+    private byte[] direccion;
+    private int objetivo = -1;
+
+    // Campo en construccion y cola de la busqueda en anchura
+    private int[] distanciaNueva;
+    private byte[] direccionNueva;
+    private final int[] cola;
+    private int cabeza, fin;
+    private int objetivoNuevo = -1;
+    private boolean construyendo = false;
+
+    // Estadisticas
+    private int tilesUltimoTick;
+    private int reconstrucciones;
+
+    /**
+     * Marca como bloqueados los tiles con obstaculos y calcula el primer campo
+     * completo hacia la posicion dada.
+     * @param mapa mapa con su indice de colisiones ya construido
+     * @param tamTile tamaño de cada tile en pixeles
+     * @param objetivoX posicion inicial del jugador en pixeles
+     * @param objetivoY posicion inicial del jugador en pixeles
+     */
+    public CampoFlujo(MapaProcedural mapa, float tamTile, float objetivoX, float objetivoY) {
+        this.ancho = mapa.getWidth();
+        this.alto = mapa.getHeight();
+        this.tamTile = tamTile;
+
+        int celdas = ancho * alto;
+        bloqueado = new boolean[celdas];
+        for (int ty = 0; ty < alto; ty++) {
+            for (int tx = 0; tx < ancho; tx++) {
+                bloqueado[ty * ancho + tx] = mapa.hayObstaculo(tx * tamTile, ty * tamTile, tamTile, tamTile);
+            }
+        }
+
+        distancia = new int[celdas];
+        direccion = new byte[celdas];
+        distanciaNueva = new int[celdas];
+        direccionNueva = new byte[celdas];
+        cola = new int[celdas];
+
+        // El primer campo se calcula entero para que sirva desde el primer tick
+        iniciar(tileDe(objetivoX, objetivoY));
+        expandir(Integer.MAX_VALUE);
+        intercambiar();
+    }
+
+    /**
+     * Avanza el campo un tick. Si el jugador cambio de tile se empieza una
+     * reconstruccion, que se completa a lo largo de los ticks siguientes.
+     * @param objetivoX posicion del jugador en pixeles
+     * @param objetivoY posicion del jugador en pixeles
+     */
+    public void actualizar(float objetivoX, float objetivoY) {
+        tilesUltimoTick = 0;
+        if (!construyendo) {
+            int tile = tileDe(objetivoX, objetivoY);
+            if (tile == objetivo) return;
+            iniciar(tile);
+        }
+        tilesUltimoTick = expandir(PRESUPUESTO_POR_TICK);
+        if (cabeza == fin) intercambiar();
+    }
+
+    private void iniciar(int tile) {
+        Arrays.fill(distanciaNueva, SIN_DISTANCIA);
+        objetivoNuevo = tile;
+        cabeza = 0;
+        fin = 0;
+        // El tile del jugador siempre es la semilla, aunque toque un tronco
+        distanciaNueva[tile] = 0;
+        direccionNueva[tile] = (byte) SIN_DIRECCION;
+        cola[fin++] = tile;
+        construyendo = true;
+    }
+
+    /**
+     * Expande hasta presupuesto tiles de la busqueda en anchura.
+     * @return tiles expandidos
+     */
+    private int expandir(int presupuesto) {
+        int expandidos = 0;
+        while (cabeza < fin && expandidos < presupuesto) {
+            int actual = cola[cabeza++];
+            expandidos++;
+            int cx = actual % ancho;
+            int cy = actual / ancho;
+            int siguiente = distanciaNueva[actual] + 1;
+
+            for (int d = 0; d < 8; d++) {
+                int nx = cx + VECINO_X[d];
+                int ny = cy + VECINO_Y[d];
+                if (nx < 0 || nx >= ancho || ny < 0 || ny >= alto) continue;
+
+                int vecino = ny * ancho + nx;
+                if (bloqueado[vecino] || distanciaNueva[vecino] != SIN_DISTANCIA) continue;
+
+                // En diagonal solo si los dos tiles ortogonales estan libres (no cortar esquinas)
+                if (d >= 4 && (bloqueado[cy * ancho + nx] || bloqueado[ny * ancho + cx])) continue;
+
+                distanciaNueva[vecino] = siguiente;
+                // Desde el vecino se avanza en sentido contrario hacia el tile actual
+                direccionNueva[vecino] = (byte) opuesta(d);
+                cola[fin++] = vecino;
+            }
+        }
+        return expandidos;
+    }
+
+    /** Indice del vecino en sentido contrario a d. */
+    private static int opuesta(int d) {
+        // Ortogonales: 0<->1, 2<->3; diagonales: 4<->7, 5<->6
+        if (d < 4) return d ^ 1;
+        return 11 - d;
+    }
+
+    private void intercambiar() {
+        int[] d = distancia;
+        distancia = distanciaNueva;
+        distanciaNueva = d;
+        byte[] dir = direccion;
+        direccion = direccionNueva;
+        direccionNueva = dir;
+        objetivo = objetivoNuevo;
+        construyendo = false;
+        reconstrucciones++;
+    }
+
+    /**
+     * Direccion a seguir desde la posicion dada para acercarse al jugador.
+     * @return indice de direccion para getDirX/getDirY, o SIN_DIRECCION si la
+     *         posicion esta fuera del mapa, en un tile bloqueado o sin camino
+     */
+    public int direccion(float x, float y) {
+        int tx = (int) Math.floor(x / tamTile);
+        int ty = (int) Math.floor(y / tamTile);
+        if (tx < 0 || tx >= ancho || ty < 0 || ty >= alto) return SIN_DIRECCION;
+        int tile = ty * ancho + tx;
+        if (distancia[tile] == SIN_DISTANCIA) return SIN_DIRECCION;
+        return direccion[tile];
+    }
+
+    /** @return componente X normalizada de la direccion */
+    public static float getDirX(int direccion) {
+        return DIR_X[direccion];
+    }
+
+    /** @return componente Y normalizada de la direccion */
+    public static float getDirY(int direccion) {
+        return DIR_Y[direccion];
+    }
+
+    /** @return pasos hasta el jugador desde la posicion, o -1 si no hay camino */
+    public int distancia(float x, float y) {
+        int tx = (int) Math.floor(x / tamTile);
+        int ty = (int) Math.floor(y / tamTile);
+        if (tx < 0 || tx >= ancho || ty < 0 || ty >= alto) return SIN_DISTANCIA;
+        return distancia[ty * ancho + tx];
+    }
+
+    /** @return true si el tile de la posicion tiene un obstaculo */
+    public boolean isBloqueado(float x, float y) {
+        int tx = (int) Math.floor(x / tamTile);
+        int ty = (int) Math.floor(y / tamTile);
+        if (tx < 0 || tx >= ancho || ty < 0 || ty >= alto) return true;
+        return bloqueado[ty * ancho + tx];
+    }
+
+    private int tileDe(float x, float y) {
+        int tx = Math.max(0, Math.min(ancho - 1, (int) Math.floor(x / tamTile)));
+        int ty = Math.max(0, Math.min(alto - 1, (int) Math.floor(y / tamTile)));
+        return ty * ancho + tx;
+    }
+
+    /** @return true mientras se reconstruye el campo hacia un tile nuevo */
+    public boolean isConstruyendo() { return construyendo; }
+
+    /** @return tiles expandidos en el ultimo tick */
+    public int getTilesUltimoTick() { return tilesUltimoTick; }
+
+    /** @return campos completados desde que se creo */
+    public int getReconstrucciones() { return reconstrucciones; }
+}
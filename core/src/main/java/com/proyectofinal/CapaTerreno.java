@@ -0,0 +1,131 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Capa estatica del terreno (tiles base y overlays de hierba).
+ * Como el terreno no cambia despues de generar el mapa, se "hornea" una sola vez
+ * en bloques de CHUNK x CHUNK tiles dentro de un SpriteCache. En cada frame solo se
+ * dibujan los bloques que tocan el area visible de la camara (teniendo en cuenta el zoom),
+ * en lugar de recorrer y enviar tile por tile.
+ */
+public class CapaTerreno implements Disposable {
+
+    // Tamaño de cada bloque en tiles
+    public static final int CHUNK = 16;
+
+    // Bloques extra alrededor del mapa para que el borde no se vea negro
+    // cuando la camara llega al limite (fuera del mapa se dibuja pasto verde)
+    private static final int MARGEN_CHUNKS = 2;
+
+    private final SpriteCache cache;
+    private final int tileSize;
+    private final int chunksX, chunksY;
+    private final int[][] idsChunks;
+
+    // Bloques dibujados en el ultimo frame
+    private int chunksDibujados;
+
+    /**
+     * Construye y hornea la capa de terreno del mapa.
+     * @param mapa mapa procedural ya generado
+     * @param tileSize tamaño de cada tile en pixeles
+     */
+    public CapaTerreno(MapaProcedural mapa, int tileSize) {
+        this.tileSize = tileSize;
+
+        // Regiones del terreno (pertenecen al AtlasJuego)
+        TextureRegion[] pastoVerde = AtlasJuego.frames("Mapa/Pasto/pastoVerde_", 4);
+        TextureRegion pastoAmarillo = AtlasJuego.region("Mapa/Pasto/pastoAmarillo.png");
+        TextureRegion camino = AtlasJuego.region("Mapa/Piedras/piedras.png");
+        TextureRegion hierbaVerde = AtlasJuego.region("Mapa/Pasto/hiervaVerde.png");
+        TextureRegion hierbaAmarilla = AtlasJuego.region("Mapa/Pasto/hiervaAmarilla.png");
+
+        chunksX = (mapa.getWidth() + CHUNK - 1) / CHUNK + MARGEN_CHUNKS * 2;
+        chunksY = (mapa.getHeight() + CHUNK - 1) / CHUNK + MARGEN_CHUNKS * 2;
+        int origenTiles = -MARGEN_CHUNKS * CHUNK;
+
+        // Contar los sprites exactos para reservar el SpriteCache una sola vez.
+        // Sin indices, el limite de 8191 sprites por cache no aplica.
+        int sprites = chunksX * CHUNK * chunksY * CHUNK;
+        for (int y = 0; y < mapa.getHeight(); y++) {
+            for (int x = 0; x < mapa.getWidth(); x++) {
+                if (mapa.hasOverlayVerde(x, y)) sprites++;
+                if (mapa.hasOverlayAmarillo(x, y)) sprites++;
+            }
+        }
+        cache = new SpriteCache(sprites, false);
+
+        idsChunks = new int[chunksY][chunksX];
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                cache.beginCache();
+                int x0 = origenTiles + cx * CHUNK;
+                int y0 = origenTiles + cy * CHUNK;
+                for (int y = y0; y < y0 + CHUNK; y++) {
+                    for (int x = x0; x < x0 + CHUNK; x++) {
+                        MapaProcedural.Tile t = mapa.getTile(x, y);
+                        TextureRegion base = (t == MapaProcedural.Tile.CAMINO ? camino
+                            : t == MapaProcedural.Tile.PASTO_AMARILLO ? pastoAmarillo
+                            : pastoVerde[(x & 1) + ((y & 1) << 1)]);
+                        cache.add(base, x * tileSize, y * tileSize, tileSize, tileSize);
+                        if (mapa.hasOverlayVerde(x, y))
+                            cache.add(hierbaVerde, x * tileSize, y * tileSize, tileSize, tileSize);
+                        if (mapa.hasOverlayAmarillo(x, y))
+                            cache.add(hierbaAmarilla, x * tileSize, y * tileSize, tileSize, tileSize);
+                    }
+                }
+                idsChunks[cy][cx] = cache.endCache();
+            }
+        }
+        System.out.println("Terreno horneado: " + (chunksX * chunksY) + " bloques, " + sprites + " sprites");
+    }
+
+    /**
+     * Dibuja los bloques de terreno que intersectan la vista de la camara.
+     * Debe llamarse fuera de cualquier batch.begin()/end().
+     * @param cam camara del mundo
+     */
+    public void render(OrthographicCamera cam) {
+        float halfW = cam.viewportWidth * cam.zoom * 0.5f;
+        float halfH = cam.viewportHeight * cam.zoom * 0.5f;
+        float tamChunk = (float) CHUNK * tileSize;
+        float origen = -MARGEN_CHUNKS * tamChunk;
+
+        int minCx = Math.max(0, (int) Math.floor((cam.position.x - halfW - origen) / tamChunk));
+        int maxCx = Math.min(chunksX - 1, (int) Math.floor((cam.position.x + halfW - origen) / tamChunk));
+        int minCy = Math.max(0, (int) Math.floor((cam.position.y - halfH - origen) / tamChunk));
+        int maxCy = Math.min(chunksY - 1, (int) Math.floor((cam.position.y + halfH - origen) / tamChunk));
+
+        chunksDibujados = 0;
+        if (minCx > maxCx || minCy > maxCy) return;
+
+        cache.setProjectionMatrix(cam.combined);
+        cache.begin();
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                cache.draw(idsChunks[cy][cx]);
+                chunksDibujados++;
+            }
+        }
+        cache.end();
+    }
+
+    /** @return cantidad de bloques dibujados en el ultimo render */
+    public int getChunksDibujados() {
+        return chunksDibujados;
+    }
+
+    /** @return cantidad total de bloques horneados */
+    public int getTotalChunks() {
+        return chunksX * chunksY;
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
@@ -0,0 +1,245 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * Cola de dibujo del mundo. Jugador, enemigos, arboles, piedras, pociones y
+ * proyectiles se encolan con la Y por la que deben ordenarse; dibujar() los
+ * ordena de atras (Y mayor) hacia adelante (Y menor) y los envia al batch en
+ * una sola pasada, asi un enemigo delante de un arbol se ve delante y uno
+ * detras queda tapado.
+ *
+ * El orden es un ordenamiento por cubetas en tiempo lineal: primero por textura
+ * (para que sprites consecutivos compartan textura y el batch no se vacie) y
+ * despues, de forma estable, por cubetas de Y. Todos los arreglos se reutilizan
+ * entre frames.
+ */
+public class ColaRender {
+
+    // Alto de cada cubeta de Y en pixeles
+    private static final float TAM_CUBETA = 4f;
+
+    // Margen bajo y sobre la vista para sprites altos (arboles de 192 px)
+    private static final float MARGEN_VISTA = 256f;
+
+    private static final int MAX_TEXTURAS = 16;
+    private static final int CAPACIDAD_INICIAL = 256;
+
+    // Entradas de la cola (indice = sprite encolado)
+    private int cantidad = 0;
+    private TextureRegion[] regiones = new TextureRegion[CAPACIDAD_INICIAL];
+    private float[] x = new float[CAPACIDAD_INICIAL];
+    private float[] y = new float[CAPACIDAD_INICIAL];
+    private float[] ancho = new float[CAPACIDAD_INICIAL];
+    private float[] alto = new float[CAPACIDAD_INICIAL];
+    private float[] alpha = new float[CAPACIDAD_INICIAL];
+    private float[] origenX = new float[CAPACIDAD_INICIAL];
+    private float[] origenY = new float[CAPACIDAD_INICIAL];
+    private float[] rotacion = new float[CAPACIDAD_INICIAL];
+    private int[] cubeta = new int[CAPACIDAD_INICIAL];
+    private int[] textura = new int[CAPACIDAD_INICIAL];
+
+    // Orden de dibujo resultante y arreglo auxiliar del ordenamiento
+    private int[] orden = new int[CAPACIDAD_INICIAL];
+    private int[] auxiliar = new int[CAPACIDAD_INICIAL];
+
+    // Texturas distintas vistas en el frame (su posicion es su clave de orden)
+    private final Texture[] texturas = new Texture[MAX_TEXTURAS];
+    private int cantidadTexturas = 0;
+    private final int[] conteoTexturas = new int[MAX_TEXTURAS + 1];
+
+    // Fraccion del tick actual para interpolar posiciones (ver PasoFijo)
+    private float alphaTick = 1f;
+
+    // Rango de Y cubierto por las cubetas
+    private float yTope;
+    private int cantidadCubetas = 0;
+    private int[] conteoCubetas = new int[1];
+
+    /**
+     * Vacia la cola y ajusta las cubetas al area visible, sin interpolar posiciones.
+     * @param vista area visible del mundo en este frame
+     */
+    public void comenzar(Rectangle vista) {
+        comenzar(vista, 1f);
+    }
+
+    /**
+     * Vacia la cola y ajusta las cubetas al area visible.
+     * @param vista area visible del mundo en este frame
+     * @param alphaTick fraccion del tick de simulacion transcurrida (PasoFijo.getAlpha())
+     */
+    public void comenzar(Rectangle vista, float alphaTick) {
+        this.alphaTick = alphaTick;
+        cantidad = 0;
+        cantidadTexturas = 0;
+        Arrays.fill(texturas, null);
+
+        yTope = vista.y + vista.height + MARGEN_VISTA;
+        cantidadCubetas = (int) Math.ceil((vista.height + 2 * MARGEN_VISTA) / TAM_CUBETA) + 1;
+        if (conteoCubetas.length < cantidadCubetas + 1) {
+            // Solo crece si la vista se agranda (zoom o ventana mas grande)
+            conteoCubetas = new int[cantidadCubetas + 1];
+        }
+    }
+
+    /**
+     * Posicion a dibujar de una entidad que se mueve: interpola entre la del
+     * tick anterior y la del actual segun el alpha del frame.
+     */
+    public float interpolar(float previo, float actual) {
+        return PasoFijo.interpolar(previo, actual, alphaTick);
+    }
+
+    /** Encola un sprite opaco que se ordena por su borde inferior. */
+    public void agregar(TextureRegion region, float px, float py, float w, float h) {
+        agregar(region, px, py, w, h, py, 1f);
+    }
+
+    /**
+     * Encola un sprite.
+     * @param region frame a dibujar (si es null no se encola)
+     * @param px posicion X de dibujo
+     * @param py posicion Y de dibujo
+     * @param w ancho (negativo para voltear horizontalmente)
+     * @param h alto
+     * @param yOrden Y por la que se ordena: cuanto menor, mas adelante se dibuja
+     * @param a transparencia del sprite
+     */
+    public void agregar(TextureRegion region, float px, float py, float w, float h, float yOrden, float a) {
+        agregar(region, px, py, w, h, yOrden, a, 0f, 0f, 0f);
+    }
+
+    /**
+     * Encola un sprite rotado.
+     * @param ox origen de la rotacion en X, relativo a px
+     * @param oy origen de la rotacion en Y, relativo a py
+     * @param grados rotacion antihoraria en grados (0: sin rotar)
+     * @see #agregar(TextureRegion, float, float, float, float, float, float)
+     */
+    public void agregar(TextureRegion region, float px, float py, float w, float h, float yOrden, float a,
+                        float ox, float oy, float grados) {
+        if (region == null) return;
+        if (cantidad == regiones.length) crecer();
+
+        int i = cantidad++;
+        regiones[i] = region;
+        x[i] = px;
+        y[i] = py;
+        ancho[i] = w;
+        alto[i] = h;
+        alpha[i] = a;
+        origenX[i] = ox;
+        origenY[i] = oy;
+        rotacion[i] = grados;
+        cubeta[i] = cubetaDe(yOrden);
+        textura[i] = claveTextura(region.getTexture());
+    }
+
+    /** Cubeta 0 = lo mas alejado (Y mayor); las Y fuera del rango se recortan a los extremos. */
+    private int cubetaDe(float yOrden) {
+        int c = (int) ((yTope - yOrden) / TAM_CUBETA);
+        if (c < 0) return 0;
+        return Math.min(c, cantidadCubetas - 1);
+    }
+
+    /** Posicion de la textura en la tabla del frame; las que no entran comparten la ultima clave. */
+    private int claveTextura(Texture t) {
+        for (int k = 0; k < cantidadTexturas; k++) {
+            if (texturas[k] == t) return k;
+        }
+        if (cantidadTexturas < MAX_TEXTURAS) {
+            texturas[cantidadTexturas] = t;
+            return cantidadTexturas++;
+        }
+        return MAX_TEXTURAS;
+    }
+
+    private void crecer() {
+        int nueva = regiones.length * 2;
+        regiones = Arrays.copyOf(regiones, nueva);
+        x = Arrays.copyOf(x, nueva);
+        y = Arrays.copyOf(y, nueva);
+        ancho = Arrays.copyOf(ancho, nueva);
+        alto = Arrays.copyOf(alto, nueva);
+        alpha = Arrays.copyOf(alpha, nueva);
+        origenX = Arrays.copyOf(origenX, nueva);
+        origenY = Arrays.copyOf(origenY, nueva);
+        rotacion = Arrays.copyOf(rotacion, nueva);
+        cubeta = Arrays.copyOf(cubeta, nueva);
+        textura = Arrays.copyOf(textura, nueva);
+        orden = new int[nueva];
+        auxiliar = new int[nueva];
+    }
+
+    /**
+     * Ordena la cola y dibuja todo. El batch debe estar iniciado.
+     */
+    public void dibujar(Batch batch) {
+        ordenar();
+
+        float alphaActual = 1f;
+        for (int k = 0; k < cantidad; k++) {
+            int i = orden[k];
+            if (alpha[i] != alphaActual) {
+                alphaActual = alpha[i];
+                batch.setColor(1f, 1f, 1f, alphaActual);
+            }
+            if (rotacion[i] == 0f) {
+                batch.draw(regiones[i], x[i], y[i], ancho[i], alto[i]);
+            } else {
+                batch.draw(regiones[i], x[i], y[i], origenX[i], origenY[i], ancho[i], alto[i], 1f, 1f, rotacion[i]);
+            }
+        }
+        if (alphaActual != 1f) batch.setColor(1f, 1f, 1f, 1f);
+
+        // No retener regiones de entidades que pueden desaparecer
+        Arrays.fill(regiones, 0, cantidad, null);
+    }
+
+    /**
+     * Ordenamiento por conteo en dos pasadas estables: por textura y luego por cubeta de Y.
+     * El resultado (indices de entradas) queda en orden.
+     */
+    private void ordenar() {
+        // 1) Por textura: entradas -> auxiliar
+        Arrays.fill(conteoTexturas, 0);
+        for (int i = 0; i < cantidad; i++) conteoTexturas[textura[i]]++;
+        int acumulado = 0;
+        for (int k = 0; k <= MAX_TEXTURAS; k++) {
+            int n = conteoTexturas[k];
+            conteoTexturas[k] = acumulado;
+            acumulado += n;
+        }
+        for (int i = 0; i < cantidad; i++) auxiliar[conteoTexturas[textura[i]]++] = i;
+
+        // 2) Por cubeta de Y, estable: auxiliar -> orden
+        Arrays.fill(conteoCubetas, 0, cantidadCubetas, 0);
+        for (int k = 0; k < cantidad; k++) conteoCubetas[cubeta[auxiliar[k]]]++;
+        acumulado = 0;
+        for (int c = 0; c < cantidadCubetas; c++) {
+            int n = conteoCubetas[c];
+            conteoCubetas[c] = acumulado;
+            acumulado += n;
+        }
+        for (int k = 0; k < cantidad; k++) {
+            int i = auxiliar[k];
+            orden[conteoCubetas[cubeta[i]]++] = i;
+        }
+    }
+
+    /** @return sprites encolados en el frame actual */
+    public int size() {
+        return cantidad;
+    }
+
+    /** @return texturas distintas encoladas en el frame actual */
+    public int getCantidadTexturas() {
+        return cantidadTexturas;
+    }
+}
@@ -0,0 +1,267 @@
+package com.proyectofinal;
+
+/**
+ * Logica del jugador dentro de la simulacion: movimiento, estado de animacion
+ * (reposo, corrida, ataque) y maquina de estados de los ataques de cada clase.
+ * No depende de texturas ni de Gdx.input: lee una FuenteEntrada y pide al
+ * MundoJuego que cree los proyectiles. PlayerActor solo consulta este estado para dibujar.
+ */
+public class ControlJugador {
+
+    // Tipo de ataque (se usa para distinguir entre ataque normal y especial en el Mago)
+    public enum TipoAtaque { NORMAL, ESPECIAL }
+
+    // Velocidad de movimiento en pixeles por segundo
+    private static final float VELOCIDAD = 200f;
+
+    // Duracion de cada frame de animacion
+    private static final float ATTACK_FRAME_DUR = 0.07f;
+    private static final float RUN_FRAME_DUR = 0.08f;
+    private static final float IDLE_FRAME_DUR = 0.2f;
+
+    // Frame de impacto por clase
+    private static final int ATTACK_IMPACT = 4;
+    private static final int MAGO_ATTACK1_IMPACT = 3;
+    private static final int MAGO_ATTACK2_IMPACT = 4;
+    private static final int ARQUERO_ATTACK_IMPACT = 9;
+    private static final int COSTO_HECHIZO_ESPECIAL = 20;
+
+    private final Jugador jugador;
+    private final MundoJuego mundo;
+
+    // Cantidad de frames de cada animacion segun la clase (PlayerActor carga los mismos)
+    private final int framesIdle;
+    private final int framesRun;
+    private final int framesAtaque;
+    private final int framesAtaqueEspecial;
+    private final int frameImpacto;
+    private final int frameImpactoEspecial;
+
+    // Estado de ataque actual
+    private boolean atacando = false;
+    private boolean impactoHecho = false;
+    private float tiempoAnimAtaque = 0f;
+    private int frameAttack = 0;
+    private TipoAtaque tipoAtaqueActual = TipoAtaque.NORMAL;
+
+    // Animacion de corrida
+    private boolean corriendo = false;
+    private float tiempoCorrida = 0f;
+    private int frameRun = 0;
+
+    // Animacion de reposo (idle)
+    private boolean enReposo = true;
+    private float tiempoIdle = 0f;
+    private int frameIdle = 0;
+
+    /**
+     * @param jugador modelo del jugador que se controla
+     * @param mundo mundo al que pertenece (mapa, enemigos y proyectiles)
+     */
+    public ControlJugador(Jugador jugador, MundoJuego mundo) {
+        this.jugador = jugador;
+        this.mundo = mundo;
+
+        if (jugador instanceof Caballero) {
+            framesIdle = 8;
+            framesRun = 8;
+            framesAtaque = 9;
+            framesAtaqueEspecial = 0;
+            frameImpacto = ATTACK_IMPACT;
+            frameImpactoEspecial = -1;
+        } else if (jugador instanceof Mago) {
+            framesIdle = 6;
+            framesRun = 8;
+            framesAtaque = 7;
+            framesAtaqueEspecial = 8;
+            frameImpacto = MAGO_ATTACK1_IMPACT;
+            frameImpactoEspecial = MAGO_ATTACK2_IMPACT;
+        } else if (jugador instanceof Arquero) {
+            framesIdle = 5;
+            framesRun = 8;
+            framesAtaque = 11;
+            framesAtaqueEspecial = 0;
+            frameImpacto = ARQUERO_ATTACK_IMPACT;
+            frameImpactoEspecial = -1;
+        } else {
+            // Jugador generico: sin animaciones
+            framesIdle = framesRun = framesAtaque = framesAtaqueEspecial = 0;
+            frameImpacto = frameImpactoEspecial = -1;
+        }
+    }
+
+    /**
+     * Avanza un tick: movimiento, animaciones y ataques.
+     * @param delta tiempo del tick en segundos
+     * @param entrada entrada del jugador para este tick
+     * @param enemigos indice espacial de los enemigos
+     */
+    public void actualizar(float delta, FuenteEntrada entrada, GrillaEnemigos enemigos) {
+        int dirX = entrada.getEjeX();
+        int dirY = entrada.getEjeY();
+
+        mover(dirX, dirY, delta);
+        actualizarAnimacion(dirX, dirY, delta);
+
+        // Solo se permite atacar si no se esta ejecutando un ataque actualmente
+        if (!atacando) {
+            if (entrada.ataquePrincipal()) {
+                iniciarAtaquePrincipal();
+            } else if (entrada.ataqueEspecial()) {
+                iniciarAtaqueEspecial();
+            }
+        }
+
+        if (atacando) {
+            avanzarAtaque(delta, enemigos);
+        }
+    }
+
+    /**
+     * Mueve al jugador dentro de los limites del mapa. Si el destino choca con
+     * un obstaculo el jugador no se mueve.
+     */
+    private void mover(int dirX, int dirY, float delta) {
+        if (dirX == 0 && dirY == 0) return;
+
+        float speed = VELOCIDAD * delta;
+        float newX = jugador.getX() + dirX * speed;
+        float newY = jugador.getY() + dirY * speed;
+
+        // Limites del mapa
+        MapaProcedural mapa = mundo.getMapa();
+        float maxX = mapa.getAnchoPx() - jugador.getWidth();
+        float maxY = mapa.getAltoPx() - jugador.getHeight();
+        if (newX < 0) newX = 0;
+        if (newX > maxX) newX = maxX;
+        if (newY < 0) newY = 0;
+        if (newY > maxY) newY = maxY;
+
+        // Colision con troncos de arboles usando el indice por tiles
+        if (!mapa.hayObstaculo(newX, newY, jugador.getWidth(), jugador.getHeight())) {
+            jugador.setPosition(newX, newY);
+        }
+    }
+
+    /** Actualiza direccion y las animaciones de reposo y corrida. */
+    private void actualizarAnimacion(int dirX, int dirY, float delta) {
+        if (atacando) {
+            // Si esta atacando, detener animacion de corrida
+            corriendo = false;
+            tiempoCorrida = 0;
+            frameRun = 0;
+            return;
+        }
+
+        if (dirX < 0) jugador.direccion = "IZQUIERDA";
+        else if (dirX > 0) jugador.direccion = "DERECHA";
+
+        if ((dirX != 0 || dirY != 0) && framesRun > 0) {
+            if (!corriendo) {
+                // Transicion de estado: Reposo -> Corriendo
+                corriendo = true;
+                enReposo = false;
+                tiempoCorrida = 0f;
+                frameRun = 0;
+            } else {
+                tiempoCorrida += delta;
+                frameRun = (int)(tiempoCorrida / RUN_FRAME_DUR) % framesRun;
+            }
+        } else {
+            // No hay movimiento, mantener en animacion Idle
+            corriendo = false;
+            enReposo = true;
+            tiempoCorrida = 0;
+            frameRun = 0;
+        }
+
+        if (enReposo && framesIdle > 0) {
+            tiempoIdle += delta;
+            frameIdle = (int)(tiempoIdle / IDLE_FRAME_DUR) % framesIdle;
+        } else {
+            tiempoIdle = 0;
+        }
+    }
+
+    /** Ataque basico: espada del Caballero, hechizo del Mago o flecha del Arquero. */
+    private void iniciarAtaquePrincipal() {
+        if (jugador instanceof Caballero caballero) {
+            if (!caballero.puedeAtacar()) return;
+            caballero.registrarAtaque();
+            caballero.iniciarAtaque();
+        } else if (jugador instanceof Arquero arquero) {
+            if (arquero.getFlechas() <= 0) return;
+        } else if (!(jugador instanceof Mago)) {
+            return;
+        }
+        comenzarAtaque(TipoAtaque.NORMAL);
+    }
+
+    /** Ataque especial del Mago: consume mana y lanza un hechizo mas fuerte. */
+    private void iniciarAtaqueEspecial() {
+        if (!(jugador instanceof Mago mago) || mago.getMana() < COSTO_HECHIZO_ESPECIAL) return;
+        comenzarAtaque(TipoAtaque.ESPECIAL);
+        mago.consumirMana(COSTO_HECHIZO_ESPECIAL);
+    }
+
+    private void comenzarAtaque(TipoAtaque tipo) {
+        atacando = true;
+        corriendo = false;
+        enReposo = false;
+        tiempoAnimAtaque = 0f;
+        frameAttack = 0;
+        impactoHecho = false;
+        tipoAtaqueActual = tipo;
+    }
+
+    /**
+     * Avanza la animacion de ataque. El Caballero golpea en el frame de impacto;
+     * Mago y Arquero lanzan su proyectil al terminar la animacion.
+     */
+    private void avanzarAtaque(float delta, GrillaEnemigos enemigos) {
+        tiempoAnimAtaque += delta;
+        int idx = (int)(tiempoAnimAtaque / ATTACK_FRAME_DUR);
+
+        int duracion = tipoAtaqueActual == TipoAtaque.ESPECIAL ? framesAtaqueEspecial : framesAtaque;
+        int impacto = tipoAtaqueActual == TipoAtaque.ESPECIAL ? frameImpactoEspecial : frameImpacto;
+
+        if (idx < duracion) {
+            frameAttack = idx;
+            if (idx == impacto && !impactoHecho) {
+                impactoHecho = true;
+                if (jugador instanceof Caballero caballero) {
+                    caballero.atacar(enemigos);
+                }
+            }
+            return;
+        }
+
+        // Fin de la animacion (o clase sin animacion de ataque)
+        if (jugador instanceof Caballero caballero) {
+            caballero.terminarAtaque();
+        } else if (jugador instanceof Mago) {
+            mundo.lanzarHechizo(tipoAtaqueActual == TipoAtaque.ESPECIAL);
+        } else if (jugador instanceof Arquero arquero) {
+            if (arquero.atacar(enemigos)) mundo.lanzarFlecha();
+        }
+        atacando = false;
+        impactoHecho = false;
+        tiempoAnimAtaque = 0;
+        frameAttack = 0;
+    }
+
+    // Estado de la animacion para la vista
+    public boolean isAtacando() { return atacando; }
+    public boolean isCorriendo() { return corriendo; }
+    public boolean isEnReposo() { return enReposo; }
+    public TipoAtaque getTipoAtaque() { return tipoAtaqueActual; }
+    public int getFrameAtaque() { return frameAttack; }
+    public int getFrameRun() { return frameRun; }
+    public int getFrameIdle() { return frameIdle; }
+
+    // Cantidad de frames por animacion de la clase del jugador
+    public int getFramesIdle() { return framesIdle; }
+    public int getFramesRun() { return framesRun; }
+    public int getFramesAtaque() { return framesAtaque; }
+    public int getFramesAtaqueEspecial() { return framesAtaqueEspecial; }
+}
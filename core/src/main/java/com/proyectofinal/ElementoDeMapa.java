@@ -3,16 +3,24 @@ package com.proyectofinal;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Disposable;
 
 /**
  * Clase base abstracta para todos los objetos del mapa (como arboles o piedras).
  * Define la textura, posicion y colision.
+ *
+ * La posicion, el tamaño y el collider no dependen de la textura, de modo que el
+ * mapa puede generarse sin graficos; la textura se carga aparte con cargarTextura().
  */
 public abstract class ElementoDeMapa implements Disposable {
-    protected Texture texture;         // Textura del objeto a renderizar
+    protected Texture texture;         // Textura compartida del registro (null hasta cargarTextura())
+    protected TextureRegion region;    // Region de la textura completa para la ColaRender
+    protected String rutaTextura;      // Ruta de la imagen dentro de assets
+    protected float ancho, alto;       // Tamaño del sprite en pixeles
     protected Rectangle collider;      // Rectangulo de colision del objeto
     protected float posX, posY;        // Posicion del objeto en el mundo
+    private RegistroTexturas registro; // Registro que presto la textura (null si no hay)
 
     /**
      * Metodo abstracto que las clases hijas deben implementar
@@ -20,11 +28,30 @@ public abstract class ElementoDeMapa implements Disposable {
      */
     public abstract void colocar(float x, float y);
 
+    /**
+     * Pide la textura del objeto al registro del mapa si todavia no la tiene.
+     * Los elementos con la misma ruta comparten la misma textura.
+     * @param registro registro de texturas del mapa
+     */
+    public void cargarTextura(RegistroTexturas registro) {
+        if (texture != null || rutaTextura == null || registro == null) return;
+        texture = registro.obtener(rutaTextura);
+        region = new TextureRegion(texture);
+        this.registro = registro;
+    }
+
     /**
      * Renderiza la textura del objeto en su posicion actual.
      */
     public void render(SpriteBatch batch) {
-        batch.draw(texture, posX, posY);
+        if (texture != null) batch.draw(texture, posX, posY);
+    }
+
+    /**
+     * Encola el objeto en la cola de dibujo del mundo, ordenado por su base.
+     */
+    public void encolar(ColaRender cola) {
+        if (region != null) cola.agregar(region, posX, posY, ancho, alto);
     }
 
     /**
@@ -34,14 +61,23 @@ public abstract class ElementoDeMapa implements Disposable {
         return collider;
     }
 
+    public String getRutaTextura() { return rutaTextura; }
+    public float getX() { return posX; }
+    public float getY() { return posY; }
+    public float getAncho() { return ancho; }
+    public float getAlto() { return alto; }
+
     /**
-     * Libera los recursos asociados con este objeto (como la textura).
+     * Suelta la referencia a la textura; el registro la libera cuando ningun
+     * elemento la usa.
      */
     @Override
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-            texture = null;
+        if (texture != null && registro != null) {
+            registro.liberar(rutaTextura);
         }
+        texture = null;
+        region = null;
+        registro = null;
     }
 }
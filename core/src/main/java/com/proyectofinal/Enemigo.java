@@ -4,9 +4,9 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
-import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.List;
 
 /**
  * Clase base abstracta para todos los enemigos del juego.
@@ -29,17 +29,67 @@ public abstract class Enemigo implements Disposable {
 
     // Posicion y propiedades basicas
     protected float x, y;
+    protected float xPrevio, yPrevio; // Posicion al comenzar el tick (para interpolar el dibujo)
     protected int vida;
+    protected final int vidaInicial;
     protected int danio;
     protected float velocidad;
     protected boolean estaVivo = true;
     protected Rectangle hitbox = new Rectangle();
 
+    // Indice espacial donde esta registrado el enemigo (lo administra GrillaEnemigos)
+    GrillaEnemigos grilla;
+    long celdaGrilla;
+
+    // Campo de flujo compartido hacia el jugador (null: se camina en linea recta)
+    CampoFlujo campoFlujo;
+
+    // Por debajo de esta distancia al jugador se va directo, sin seguir el campo
+    protected static final float DISTANCIA_DIRECTA = 64f;
+
+    // Obstaculos estaticos del mapa (null: se mueve sin chocar ni limites)
+    IndiceColisiones colisiones;
+
+    // Caja de los pies, relativa a (x, y): es lo que choca con los troncos
+    protected static final float PIES_X = 20f;
+    protected static final float PIES_Y = 4f;
+    protected static final float PIES_ANCHO = 24f;
+    protected static final float PIES_ALTO = 12f;
+
+    // Estado del nivel de detalle (lo administra PlanificadorLOD)
+    int faseLOD = -1;
+    float deltaPendiente = 0f;
+
+    // Ajuste de vecinos reutilizado por moverHaciaJugador
+    private final float[] ajusteVecinos = new float[4];
+
+    // Buffer del hilo que lo esta actualizando en paralelo (null: los efectos
+    // sobre la grilla y el jugador se aplican en el momento)
+    IntencionesEnemigos intenciones;
+
+    // Generador xorshift propio para desempatar vecinos superpuestos: no se
+    // comparte entre hilos como Math.random y da el mismo resultado en serie y en paralelo
+    private int semillaRuido;
+
+    // Separacion y alineacion con los vecinos (boids)
+    protected static final float RADIO_VECINOS = 64f;
+    protected static final int MAX_VECINOS = 8;          // Vecinos considerados como maximo
+    protected static final float PESO_SEPARACION = 3f;
+    protected static final float PESO_ALINEACION = 0.3f;
+
+    // Centro y direccion de movimiento publicados al final de cada tick; los
+    // vecinos leen estos valores y no la posicion que se esta actualizando
+    float centroXPublicado, centroYPublicado;
+    float direccionXPublicada, direccionYPublicada;
+
     // Animacion y estado actual
     public float stateTime = 0f;
     public EstadoEnemigo estadoActual = EstadoEnemigo.IDLE;
 
-    // Animaciones por estado
+    // Conjunto de animaciones compartido por todos los enemigos del mismo tipo
+    protected AnimacionesEnemigo animaciones;
+
+    // Animaciones por estado (referencias al conjunto compartido)
     protected Animation<TextureRegion> idleAnimation;
     protected Animation<TextureRegion> walkAnimation;
     protected Animation<TextureRegion> runAnimation;
@@ -50,21 +100,51 @@ public abstract class Enemigo implements Disposable {
 
     // Cooldown entre ataques (en segundos)
     protected float cooldownAttack = 0f;
-    protected long lastAttackTime = 0L; // Tiempo del ultimo ataque en milisegundos
+    protected float tiempoDesdeUltimoAtaque = Float.MAX_VALUE; // Tiempo simulado desde el ultimo ataque
 
     // Constructor
     public Enemigo(float x, float y, int vida, int danio, float velocidad) {
         this.x = x;
         this.y = y;
+        this.xPrevio = x;
+        this.yPrevio = y;
         this.vida = vida;
+        this.vidaInicial = vida;
         this.danio = danio;
         this.velocidad = velocidad;
         this.estaVivo = true;
         this.stateTime = 0f;
+        this.semillaRuido = (Float.floatToIntBits(x) * 31 + Float.floatToIntBits(y)) | 1;
         actualizarHitbox();
+        publicarEstado();
         cargarAnimaciones(); // Cada subclase implementa esto
     }
 
+    /**
+     * Deja al enemigo como recien creado en la posicion dada, para reutilizarlo
+     * desde un PoolEnemigos. Las animaciones (compartidas) y la fase de nivel de
+     * detalle se conservan. El enemigo no debe estar en ninguna grilla.
+     * Las subclases con estado propio lo sobrescriben y llaman a super.reiniciar().
+     */
+    public void reiniciar(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.xPrevio = x;
+        this.yPrevio = y;
+        this.vida = vidaInicial;
+        this.estaVivo = true;
+        this.marcarParaEliminar = false;
+        this.tiempoPostMortem = 0f;
+        this.stateTime = 0f;
+        this.estadoActual = EstadoEnemigo.IDLE;
+        this.tiempoDesdeUltimoAtaque = Float.MAX_VALUE;
+        this.deltaPendiente = 0f;
+        this.intenciones = null;
+        this.semillaRuido = (Float.floatToIntBits(x) * 31 + Float.floatToIntBits(y)) | 1;
+        actualizarHitbox();
+        publicarEstado();
+    }
+
     // Getters
     public float getX() { return x; }
     public float getY() { return y; }
@@ -91,7 +171,7 @@ public abstract class Enemigo implements Disposable {
 
     // Verifica si puede atacar (segun cooldown)
     public boolean canAttack() {
-        return TimeUtils.millis() - lastAttackTime >= (long)(cooldownAttack * 1000);
+        return tiempoDesdeUltimoAtaque >= cooldownAttack;
     }
 
     public boolean isReadyToRemove() {
@@ -131,7 +211,10 @@ public abstract class Enemigo implements Disposable {
      * Delega la logica especifica a la subclase.
      */
     public void update(float deltaTime, float playerX, float playerY) {
+        xPrevio = x;
+        yPrevio = y;
         stateTime += deltaTime;
+        tiempoDesdeUltimoAtaque += deltaTime;
 
         // Gestion de muerte
         if (!estaVivo) {
@@ -165,7 +248,7 @@ public abstract class Enemigo implements Disposable {
             if (anim.isAnimationFinished(stateTime)) {
                 estadoActual = EstadoEnemigo.IDLE;
                 stateTime = 0f;
-                lastAttackTime = TimeUtils.millis();
+                tiempoDesdeUltimoAtaque = 0f;
             }
             return;
         }
@@ -174,12 +257,61 @@ public abstract class Enemigo implements Disposable {
         actualizarComportamiento(deltaTime, playerX, playerY);
     }
 
+    /**
+     * @return true si el enemigo puede avanzar con actualizarLejos(): esta vivo
+     *         y no tiene una animacion de golpe o ataque por terminar
+     */
+    boolean puedeActualizarseLejos() {
+        return estaVivo && (estadoActual == EstadoEnemigo.IDLE
+            || estadoActual == EstadoEnemigo.WALKING || estadoActual == EstadoEnemigo.RUNNING);
+    }
+
+    /**
+     * Actualizacion barata para enemigos lejos de la camara: avanza en linea
+     * recta hacia el jugador, sin campo de flujo, maquina de estados ni animacion.
+     * Los troncos y los limites del mapa se respetan igual que de cerca.
+     * El cooldown de ataque sigue corriendo.
+     */
+    void actualizarLejos(float deltaTime, float playerX, float playerY) {
+        xPrevio = x;
+        yPrevio = y;
+        tiempoDesdeUltimoAtaque += deltaTime;
+        estadoActual = EstadoEnemigo.RUNNING;
+
+        float dirX = playerX - x;
+        float dirY = playerY - y;
+        float dist = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (dist == 0f) return;
+
+        float avance = Math.min(dist, velocidad * deltaTime);
+        moverConColisiones(dirX / dist * avance, dirY / dist * avance);
+        actualizarHitbox();
+        reubicarEnGrilla();
+    }
+
     /**
      * Metodo abstracto para cargar las animaciones del enemigo.
-     * Cada clase hija lo implementa.
+     * Cada clase hija lo implementa, normalmente enlazandose al conjunto
+     * compartido de BibliotecaAnimacionesEnemigos con vincularAnimaciones().
      */
     protected abstract void cargarAnimaciones();
 
+    /**
+     * Enlaza este enemigo a un conjunto de animaciones compartido.
+     * No se copia ni se carga ninguna textura: solo se guardan referencias.
+     * @param conjunto animaciones del tipo de enemigo
+     */
+    protected void vincularAnimaciones(AnimacionesEnemigo conjunto) {
+        this.animaciones = conjunto;
+        idleAnimation    = conjunto.getAnimacion(EstadoEnemigo.IDLE);
+        walkAnimation    = conjunto.getAnimacion(EstadoEnemigo.WALKING);
+        runAnimation     = conjunto.getAnimacion(EstadoEnemigo.RUNNING);
+        attackAnimation  = conjunto.getAnimacion(EstadoEnemigo.ATTACKING);
+        attack2Animation = conjunto.getAnimacion(EstadoEnemigo.ATTACKING2);
+        hitAnimation     = conjunto.getAnimacion(EstadoEnemigo.HIT);
+        deathAnimation   = conjunto.getAnimacion(EstadoEnemigo.DYING);
+    }
+
     /**
      * Metodo abstracto para implementar la logica personalizada del enemigo.
      * Se llama desde update().
@@ -191,27 +323,216 @@ public abstract class Enemigo implements Disposable {
      */
     public abstract void render(SpriteBatch batch);
 
+    /**
+     * Metodo abstracto para agregar el sprite actual a la cola de dibujo del mundo,
+     * que lo ordena por Y junto con el resto de las entidades. La posicion se
+     * interpola con cola.interpolar(xPrevio, x).
+     */
+    public abstract void encolar(ColaRender cola);
+
     /**
      * Movimiento generico hacia el jugador.
+     * Lejos del jugador sigue la direccion del campo de flujo (que rodea los
+     * arboles); cerca, o si el tile no tiene camino, va en linea recta. A esa
+     * direccion se le suma la separacion y alineacion con los vecinos, y el
+     * desplazamiento se desliza sobre los troncos y se detiene en los bordes.
      * Se puede sobrescribir si se necesita un comportamiento mas complejo.
      */
     protected void moverHaciaJugador(float playerX, float playerY, float deltaTime) {
-        Vector2 dir = new Vector2(playerX - x, playerY - y).nor(); // Direccion normalizada
-        float dist = Vector2.dst(playerX, playerY, x, y); // Distancia al jugador
+        // Direccion normalizada calculada sobre floats para no crear un Vector2 por enemigo
+        float dirX = playerX - x;
+        float dirY = playerY - y;
+        float dist = (float) Math.sqrt(dirX * dirX + dirY * dirY); // Distancia al jugador
+        if (dist != 0f) {
+            dirX /= dist;
+            dirY /= dist;
+        }
+
+        if (campoFlujo != null && dist > DISTANCIA_DIRECTA) {
+            int direccion = campoFlujo.direccion(x + width * 0.5f, y + height * 0.5f);
+            if (direccion != CampoFlujo.SIN_DIRECCION) {
+                dirX = CampoFlujo.getDirX(direccion);
+                dirY = CampoFlujo.getDirY(direccion);
+            }
+        }
 
-        // Variacion aleatoria para que los enemigos no se agrupen exactamente
-        if (Math.random() < 0.3) {
-            dir.add((float)(Math.random()*0.8 - 0.4), (float)(Math.random()*0.8 - 0.4)).nor();
+        // Alinearse con la direccion de los vecinos y separarse de ellos para que
+        // la horda no converja en el mismo punto
+        float sepX = 0f, sepY = 0f;
+        if (grilla != null) {
+            calcularAjusteVecinos(ajusteVecinos);
+            sepX = ajusteVecinos[0];
+            sepY = ajusteVecinos[1];
+            dirX += ajusteVecinos[2];
+            dirY += ajusteVecinos[3];
+            float largo = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+            if (largo != 0f) {
+                dirX /= largo;
+                dirY /= largo;
+            }
         }
 
-        float factor = dist < 150 ? dist / 150f : 1f; // Frenar si esta muy cerca
-        x += dir.x * velocidad * factor * deltaTime;
-        y += dir.y * velocidad * factor * deltaTime;
+        // Frenar si esta muy cerca; la separacion no se frena, para que los que
+        // ya rodean al jugador sigan abriendose
+        float factor = dist < 150 ? dist / 150f : 1f;
+        float movX = dirX * factor + sepX;
+        float movY = dirY * factor + sepY;
+        float largo = (float) Math.sqrt(movX * movX + movY * movY);
+        if (largo > 1f) {
+            movX /= largo;
+            movY /= largo;
+        }
+        moverConColisiones(movX * velocidad * deltaTime, movY * velocidad * deltaTime);
         actualizarHitbox();
+
+        // Reubicar en el indice espacial solo si cambio de celda
+        reubicarEnGrilla();
+    }
+
+    /**
+     * Desplaza al enemigo dentro de los limites del mapa sin que sus pies entren
+     * en un tronco. Cada eje se resuelve por separado, asi que si el movimiento
+     * diagonal choca el enemigo se desliza a lo largo del tronco en el eje libre.
+     * Son a lo sumo tres consultas al IndiceColisiones de una caja chica (pocas
+     * celdas cada una), sin importar cuantos arboles tenga el mapa. Si ya esta
+     * dentro de un tronco se mueve libre hasta salir.
+     */
+    protected void moverConColisiones(float dx, float dy) {
+        if (colisiones == null) {
+            x += dx;
+            y += dy;
+            return;
+        }
+
+        float maxX = colisiones.getAnchoPx() - width;
+        float maxY = colisiones.getAltoPx() - height;
+        boolean atrapado = colisiones.colisiona(x + PIES_X, y + PIES_Y, PIES_ANCHO, PIES_ALTO);
+
+        float nuevoX = Math.max(0f, Math.min(maxX, x + dx));
+        if (atrapado || !colisiones.colisiona(nuevoX + PIES_X, y + PIES_Y, PIES_ANCHO, PIES_ALTO)) {
+            x = nuevoX;
+        }
+
+        float nuevoY = Math.max(0f, Math.min(maxY, y + dy));
+        if (atrapado || !colisiones.colisiona(x + PIES_X, nuevoY + PIES_Y, PIES_ANCHO, PIES_ALTO)) {
+            y = nuevoY;
+        }
+    }
+
+    /**
+     * Suma la separacion y la alineacion con los vecinos cercanos de la grilla.
+     * Solo se visitan las celdas que cubre RADIO_VECINOS y se consideran a lo
+     * sumo MAX_VECINOS, asi que el costo depende de los vecinos y no del tamaño
+     * de la horda. Se usa el estado publicado de cada vecino (el del final del
+     * tick anterior), que nadie modifica mientras se actualizan los enemigos, y
+     * la grilla no cambia hasta el commit: el resultado es el mismo en serie y
+     * en paralelo.
+     * @param salida arreglo de 4 donde se guarda la separacion (x, y) y la
+     *               alineacion (x, y), ya multiplicadas por sus pesos
+     */
+    protected void calcularAjusteVecinos(float[] salida) {
+        float cx = centroXPublicado;
+        float cy = centroYPublicado;
+        float sepX = 0f, sepY = 0f;
+        float alX = 0f, alY = 0f;
+        int vecinos = 0;
+
+        int x0 = grilla.celdaDe(cx - RADIO_VECINOS), x1 = grilla.celdaDe(cx + RADIO_VECINOS);
+        int y0 = grilla.celdaDe(cy - RADIO_VECINOS), y1 = grilla.celdaDe(cy + RADIO_VECINOS);
+        busqueda:
+        for (int celdaY = y0; celdaY <= y1; celdaY++) {
+            for (int celdaX = x0; celdaX <= x1; celdaX++) {
+                List<Enemigo> lista = grilla.enemigosEnCelda(celdaX, celdaY);
+                if (lista == null) continue;
+                for (int i = 0, n = lista.size(); i < n; i++) {
+                    Enemigo otro = lista.get(i);
+                    if (otro == this || !otro.estaVivo) continue;
+
+                    float dx = cx - otro.centroXPublicado;
+                    float dy = cy - otro.centroYPublicado;
+                    float d2 = dx * dx + dy * dy;
+                    if (d2 > RADIO_VECINOS * RADIO_VECINOS) continue;
+
+                    float d = (float) Math.sqrt(d2);
+                    if (d == 0f) {
+                        // Exactamente superpuestos: empujar hacia un lado al azar
+                        dx = aleatorio() - 0.5f;
+                        dy = aleatorio() - 0.5f;
+                        d = (float) Math.sqrt(dx * dx + dy * dy);
+                        if (d == 0f) continue;
+                    }
+                    // Mas fuerte cuanto mas cerca
+                    float fuerza = (1f - d / RADIO_VECINOS) / d;
+                    sepX += dx * fuerza;
+                    sepY += dy * fuerza;
+                    alX += otro.direccionXPublicada;
+                    alY += otro.direccionYPublicada;
+
+                    if (++vecinos == MAX_VECINOS) break busqueda;
+                }
+            }
+        }
+
+        if (vecinos == 0) {
+            salida[0] = salida[1] = salida[2] = salida[3] = 0f;
+            return;
+        }
+        salida[0] = sepX * PESO_SEPARACION;
+        salida[1] = sepY * PESO_SEPARACION;
+        salida[2] = alX / vecinos * PESO_ALINEACION;
+        salida[3] = alY / vecinos * PESO_ALINEACION;
+    }
+
+    /**
+     * Publica el centro y la direccion del ultimo movimiento para que los vecinos
+     * los lean en el tick siguiente. Lo llama TrabajosEnemigos al terminar el
+     * tick, en un solo hilo.
+     */
+    void publicarEstado() {
+        centroXPublicado = x + width * 0.5f;
+        centroYPublicado = y + height * 0.5f;
+        float dx = x - xPrevio;
+        float dy = y - yPrevio;
+        float largo = (float) Math.sqrt(dx * dx + dy * dy);
+        if (largo != 0f) {
+            direccionXPublicada = dx / largo;
+            direccionYPublicada = dy / largo;
+        } else {
+            direccionXPublicada = 0f;
+            direccionYPublicada = 0f;
+        }
+    }
+
+    /**
+     * Reubica al enemigo en su grilla, o lo anota como intencion si se esta
+     * actualizando en paralelo.
+     */
+    protected void reubicarEnGrilla() {
+        if (grilla == null) return;
+        if (intenciones != null) intenciones.mover(this);
+        else grilla.actualizar(this);
+    }
+
+    /**
+     * Aplica daño al jugador, o lo anota como intencion si se esta actualizando
+     * en paralelo (se aplica en la fase de commit, en el orden de la lista).
+     */
+    protected void daniarJugador(Jugador jugador, int cantidad) {
+        if (intenciones != null) intenciones.daniarJugador(this, jugador, cantidad);
+        else jugador.recibirDanio(cantidad);
+    }
+
+    /** Numero pseudoaleatorio en [0, 1). */
+    protected float aleatorio() {
+        semillaRuido ^= semillaRuido << 13;
+        semillaRuido ^= semillaRuido >>> 17;
+        semillaRuido ^= semillaRuido << 5;
+        return (semillaRuido >>> 8) * (1f / (1 << 24));
     }
 
     /**
-     * Las subclases deben liberar sus texturas u otros recursos aqui.
+     * Las subclases deben liberar sus recursos propios aqui.
+     * Las animaciones son compartidas y las libera BibliotecaAnimacionesEnemigos.
      */
     @Override
     public void dispose() {
@@ -0,0 +1,53 @@
+package com.proyectofinal;
+
+/**
+ * Entrada programable para correr la simulacion sin teclado (pruebas de carga,
+ * benchmarks o repeticiones). Los ejes se mantienen hasta que se cambian; los
+ * ataques se consumen en el primer tick que los lee, igual que una tecla recien pulsada.
+ */
+public class EntradaSimulada implements FuenteEntrada {
+
+    private int ejeX, ejeY;
+    private boolean principalPendiente;
+    private boolean especialPendiente;
+
+    /** Fija la direccion de movimiento; cada eje se recorta a -1, 0 o 1. */
+    public void setEjes(int ejeX, int ejeY) {
+        this.ejeX = Integer.signum(ejeX);
+        this.ejeY = Integer.signum(ejeY);
+    }
+
+    /** Pide un ataque principal para el proximo tick. */
+    public void pulsarAtaquePrincipal() {
+        principalPendiente = true;
+    }
+
+    /** Pide un ataque especial para el proximo tick. */
+    public void pulsarAtaqueEspecial() {
+        especialPendiente = true;
+    }
+
+    @Override
+    public int getEjeX() {
+        return ejeX;
+    }
+
+    @Override
+    public int getEjeY() {
+        return ejeY;
+    }
+
+    @Override
+    public boolean ataquePrincipal() {
+        boolean pulsado = principalPendiente;
+        principalPendiente = false;
+        return pulsado;
+    }
+
+    @Override
+    public boolean ataqueEspecial() {
+        boolean pulsado = especialPendiente;
+        especialPendiente = false;
+        return pulsado;
+    }
+}
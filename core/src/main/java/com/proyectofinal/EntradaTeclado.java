@@ -0,0 +1,62 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Entrada real del jugador leida de Gdx.input.
+ * Movimiento con WASD o flechas, ataque principal con espacio o clic izquierdo
+ * y ataque especial con clic derecho.
+ *
+ * La simulacion corre a paso fijo, asi que un frame puede tener cero, uno o
+ * varios ticks. Las pulsaciones (que Gdx solo informa en el frame en que
+ * ocurren) se capturan una vez por frame con capturar() y quedan pendientes
+ * hasta que un tick las consume; asi no se pierden ni se repiten.
+ */
+public class EntradaTeclado implements FuenteEntrada {
+
+    private boolean ataquePrincipalPendiente;
+    private boolean ataqueEspecialPendiente;
+
+    /** Lee las pulsaciones de este frame. Se llama una vez por frame, antes de los ticks. */
+    public void capturar() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) ||
+            (Gdx.input.justTouched() && Gdx.input.isButtonPressed(Input.Buttons.LEFT))) {
+            ataquePrincipalPendiente = true;
+        }
+        if (Gdx.input.isButtonPressed(Input.Buttons.RIGHT) && Gdx.input.justTouched()) {
+            ataqueEspecialPendiente = true;
+        }
+    }
+
+    // Como en el movimiento original, los ejes se suman: A y D (o W y S) a la vez se anulan
+    @Override
+    public int getEjeX() {
+        int eje = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A)) eje -= 1;
+        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) eje += 1;
+        return eje;
+    }
+
+    @Override
+    public int getEjeY() {
+        int eje = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W)) eje += 1;
+        if (Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.S)) eje -= 1;
+        return eje;
+    }
+
+    @Override
+    public boolean ataquePrincipal() {
+        boolean pedido = ataquePrincipalPendiente;
+        ataquePrincipalPendiente = false;
+        return pedido;
+    }
+
+    @Override
+    public boolean ataqueEspecial() {
+        boolean pedido = ataqueEspecialPendiente;
+        ataqueEspecialPendiente = false;
+        return pedido;
+    }
+}
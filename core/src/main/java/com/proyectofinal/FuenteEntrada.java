@@ -0,0 +1,21 @@
+package com.proyectofinal;
+
+/**
+ * Fuente de entrada del jugador para la simulacion.
+ * Separa la logica del mundo del teclado/raton de libGDX, de modo que el
+ * mismo MundoJuego pueda avanzar con la entrada real o con una simulada.
+ */
+public interface FuenteEntrada {
+
+    /** @return direccion horizontal pedida: -1 (izquierda), 0 o 1 (derecha) */
+    int getEjeX();
+
+    /** @return direccion vertical pedida: -1 (abajo), 0 o 1 (arriba) */
+    int getEjeY();
+
+    /** @return true si en este tick se pidio el ataque principal */
+    boolean ataquePrincipal();
+
+    /** @return true si en este tick se pidio el ataque especial (hechizo fuerte del mago) */
+    boolean ataqueEspecial();
+}
@@ -1,14 +1,13 @@
 package com.proyectofinal;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.math.Rectangle;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -20,27 +19,27 @@ public class GestionPociones implements Disposable {
     // Configuración general del sistema de pociones
     private static final float TIEMPO_ENTRE_POCIONES = 15f;   // Tiempo entre generación de nuevas pociones
     private static final float MIN_DIST_POCIONES = 150f;      // Distancia mínima entre pociones
+    private static final float MIN_DIST_JUGADOR = 100f;       // Distancia mínima al jugador (dentro del área visible)
     private static final int MAX_POCIONES = 10;               // Límite de pociones simultáneas en pantalla
 
     // Estado interno
     private float tiempoParaNuevaPociones = 3f;               // Temporizador para próxima poción (inicial con delay corto)
     private List<PocionActor> pociones;                       // Lista de pociones activas
-    private Stage stage;                                      // Stage donde se colocan las pociones
-    private MapaProcedural mapa;                              // Referencia al mapa (por si se necesita en el futuro)
+    private MapaProcedural mapa;                              // Mapa del mundo (limites para colocar pociones)
     private Rectangle limitesJugador;                         // Rectángulo de colisión del jugador
+    private final Rectangle areaVisible = new Rectangle();    // Área que ve la cámara
+    private final Vector2 posicionLibre = new Vector2();      // Resultado reutilizado de encontrarPosicionValida()
 
-    // Texturas para los diferentes tipos de pociones
-    private Texture texturaPocionHP;
-    private Texture texturaPocionMana;
-    private Texture texturaPocionEscudo;
+    // Regiones del atlas para los diferentes tipos de pociones
+    private TextureRegion texturaPocionHP;
+    private TextureRegion texturaPocionMana;
+    private TextureRegion texturaPocionEscudo;
 
     /**
      * Constructor del sistema de gestión de pociones.
-     * @param stage Stage del juego donde aparecerán las pociones
-     * @param mapa Mapa del mundo actual (para integraciones futuras)
+     * @param mapa Mapa del mundo actual
      */
-    public GestionPociones(Stage stage, MapaProcedural mapa) {
-        this.stage = stage;
+    public GestionPociones(MapaProcedural mapa) {
         this.mapa = mapa;
         this.pociones = new ArrayList<>();
         this.limitesJugador = new Rectangle(0, 0, 50, 50); // Valor inicial seguro
@@ -49,21 +48,20 @@ public class GestionPociones implements Disposable {
     }
 
     /**
-     * Carga las texturas necesarias para las pociones.
-     * En caso de error, crea texturas vacías como respaldo.
+     * Obtiene del atlas las regiones necesarias para las pociones.
+     * Si alguna falta, el atlas devuelve una region vacia como respaldo.
      */
     private void cargarTexturas() {
-        try {
-            texturaPocionHP = new Texture("Pociones/pocionHP.png");
-            texturaPocionMana = new Texture("Pociones/pocionMana.png");
-            texturaPocionEscudo = new Texture("Pociones/pocionEscudo.png");
-        } catch (Exception e) {
-            System.err.println("Error al cargar texturas de pociones: " + e.getMessage());
-            // Fallback en caso de error
-            texturaPocionHP = new Texture(32, 32, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
-            texturaPocionMana = new Texture(32, 32, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
-            texturaPocionEscudo = new Texture(32, 32, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
-        }
+        texturaPocionHP = AtlasJuego.region("Pociones/pocionHP.png");
+        texturaPocionMana = AtlasJuego.region("Pociones/pocionMana.png");
+        texturaPocionEscudo = AtlasJuego.region("Pociones/pocionEscudo.png");
+    }
+
+    /**
+     * Define el área visible de la cámara, donde se prefieren colocar las pociones nuevas.
+     */
+    public void setAreaVisible(Rectangle area) {
+        areaVisible.set(area);
     }
 
     /**
@@ -81,19 +79,19 @@ public class GestionPociones implements Disposable {
         }
 
         // Verificar colisiones y eliminar pociones recogidas o expiradas
-        Iterator<PocionActor> iter = pociones.iterator();
-        while (iter.hasNext()) {
-            PocionActor pocion = iter.next();
+        // (recorrido por indice y hacia atras para no crear un Iterator por frame)
+        for (int i = pociones.size() - 1; i >= 0; i--) {
+            PocionActor pocion = pociones.get(i);
+            pocion.act(delta);
 
             // Recoger si el jugador la toca
             if (!pocion.estaRecogida() && pocion.comprobarColision(jugadorRect)) {
                 pocion.recoger(personaje);
             }
 
-            // Eliminar del stage si ya está marcada
+            // Eliminar si ya está marcada
             if (pocion.debeEliminarse()) {
-                pocion.remove();  // Se elimina del stage
-                iter.remove();    // Se elimina de la lista interna
+                pociones.remove(i);
             }
         }
     }
@@ -103,7 +101,7 @@ public class GestionPociones implements Disposable {
      */
     private void generarPocionAleatoria(Personaje personaje) {
         Pocion nuevaPocion;
-        Texture texturaPocion;
+        TextureRegion texturaPocion;
 
         // Lógica de probabilidad para decidir el tipo de poción
         float r = MathUtils.random();
@@ -132,42 +130,40 @@ public class GestionPociones implements Disposable {
         Vector2 posicion = encontrarPosicionValida();
         if (posicion != null) {
             PocionActor actor = new PocionActor(nuevaPocion, texturaPocion, posicion.x, posicion.y, 0.75f);
-            stage.addActor(actor);
             pociones.add(actor);
             System.out.println("Generada " + nuevaPocion.getNombre() + " en " + posicion.x + ", " + posicion.y);
         }
     }
 
     /**
-     * Encuentra una posición en pantalla para colocar una poción,
+     * Encuentra una posición dentro del área visible para colocar una poción,
      * asegurándose de no estar cerca del jugador ni de otras pociones.
+     * Devuelve siempre el mismo Vector2, o null si no encontró lugar.
      */
     private Vector2 encontrarPosicionValida() {
-        // Dimensiones de la cámara y mundo
-        int maxX = (int) stage.getViewport().getWorldWidth();
-        int maxY = (int) stage.getViewport().getWorldHeight();
-        float camX = stage.getViewport().getCamera().position.x;
-        float camY = stage.getViewport().getCamera().position.y;
-
-        float viewportWidth = stage.getViewport().getWorldWidth();
-        float viewportHeight = stage.getViewport().getWorldHeight();
+        // Límites del mapa en píxeles
+        int maxX = mapa.getAnchoPx();
+        int maxY = mapa.getAltoPx();
+        float camX = areaVisible.x + areaVisible.width / 2;
+        float camY = areaVisible.y + areaVisible.height / 2;
 
         // Área central visible preferida para generación
-        float minX = Math.max(100, camX - viewportWidth * 0.35f);
-        float maxXv = Math.min(maxX - 100, camX + viewportWidth * 0.35f);
-        float minY = Math.max(100, camY - viewportHeight * 0.35f);
-        float maxYv = Math.min(maxY - 100, camY + viewportHeight * 0.35f);
+        float minX = Math.max(100, camX - areaVisible.width * 0.35f);
+        float maxXv = Math.min(maxX - 100, camX + areaVisible.width * 0.35f);
+        float minY = Math.max(100, camY - areaVisible.height * 0.35f);
+        float maxYv = Math.min(maxY - 100, camY + areaVisible.height * 0.35f);
 
         for (int i = 0; i < 30; i++) {
             float x = MathUtils.random(minX, maxXv);
             float y = MathUtils.random(minY, maxYv);
 
             // Muy cerca del jugador
-            if (Math.abs(x - limitesJugador.x) < 200 && Math.abs(y - limitesJugador.y) < 200) continue;
+            if (Math.abs(x - limitesJugador.x) < MIN_DIST_JUGADOR && Math.abs(y - limitesJugador.y) < MIN_DIST_JUGADOR) continue;
 
             // Muy cerca de otra poción
             boolean muyCercaOtra = false;
-            for (PocionActor p : pociones) {
+            for (int j = 0; j < pociones.size(); j++) {
+                PocionActor p = pociones.get(j);
                 if (Math.abs(p.getX() - x) < MIN_DIST_POCIONES &&
                     Math.abs(p.getY() - y) < MIN_DIST_POCIONES) {
                     muyCercaOtra = true;
@@ -175,12 +171,64 @@ public class GestionPociones implements Disposable {
                 }
             }
 
-            if (!muyCercaOtra) return new Vector2(x, y);
+            if (!muyCercaOtra) return posicionLibre.set(x, y);
         }
 
         return null; // No se encontró una posición válida
     }
 
+    /**
+     * Dibuja las pociones activas. Debe llamarse entre batch.begin() y batch.end().
+     */
+    public void dibujar(Batch batch) {
+        dibujar(batch, null);
+    }
+
+    /**
+     * Dibuja las pociones que se solapan con la vista.
+     * @param vista area visible del mundo (null dibuja todas)
+     * @return cantidad de pociones enviadas al batch
+     */
+    public int dibujar(Batch batch, Rectangle vista) {
+        int dibujadas = 0;
+        for (int i = 0; i < pociones.size(); i++) {
+            PocionActor pocion = pociones.get(i);
+            if (vista != null && (pocion.getX() + pocion.getWidth() < vista.x
+                || pocion.getX() > vista.x + vista.width
+                || pocion.getY() + pocion.getHeight() < vista.y
+                || pocion.getY() > vista.y + vista.height)) {
+                continue;
+            }
+            pocion.draw(batch, 1f);
+            dibujadas++;
+        }
+        return dibujadas;
+    }
+
+    /**
+     * Encola en la cola de dibujo del mundo las pociones que se solapan con la vista.
+     * @return cantidad de pociones encoladas
+     */
+    public int encolar(ColaRender cola, Rectangle vista) {
+        int encoladas = 0;
+        for (int i = 0; i < pociones.size(); i++) {
+            PocionActor pocion = pociones.get(i);
+            if (pocion.getX() + pocion.getWidth() < vista.x
+                || pocion.getX() > vista.x + vista.width
+                || pocion.getY() + pocion.getHeight() < vista.y
+                || pocion.getY() > vista.y + vista.height) {
+                continue;
+            }
+            if (pocion.encolar(cola)) encoladas++;
+        }
+        return encoladas;
+    }
+
+    /** @return pociones activas en el mundo */
+    public List<PocionActor> getPociones() {
+        return pociones;
+    }
+
     /**
      * Permite verificar colisiones por separado (si quieres forzar la detección desde otro método).
      */
@@ -198,13 +246,10 @@ public class GestionPociones implements Disposable {
     }
 
     /**
-     * Libera texturas cargadas y limpia la lista de pociones.
+     * Limpia la lista de pociones. Las texturas pertenecen al AtlasJuego.
      */
     @Override
     public void dispose() {
-        if (texturaPocionHP != null) texturaPocionHP.dispose();
-        if (texturaPocionMana != null) texturaPocionMana.dispose();
-        if (texturaPocionEscudo != null) texturaPocionEscudo.dispose();
         pociones.clear();
     }
 }
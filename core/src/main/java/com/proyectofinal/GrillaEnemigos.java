@@ -0,0 +1,288 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indice espacial de enemigos basado en una grilla uniforme (spatial hash).
+ * Cada enemigo se guarda en la celda que contiene el centro de su hitbox, y se
+ * reubica de forma incremental cuando se mueve. Las consultas (rectangulo, radio
+ * y k mas cercanos) solo recorren las celdas cercanas, en lugar de toda la lista,
+ * para que las colisiones no crezcan como proyectiles x enemigos.
+ */
+public class GrillaEnemigos {
+
+    // Tamaño de celda por defecto (el doble del sprite de un minotauro)
+    public static final float TAM_CELDA_DEFECTO = 128f;
+
+    // Margen para cubrir hitboxes cuyo centro cae en una celda vecina
+    private static final float MARGEN_HITBOX = 64f;
+
+    private final float tamCelda;
+    private final LongMap<List<Enemigo>> celdas = new LongMap<>();
+    private int cantidad;
+
+    // Limites de las celdas ocupadas, para acotar la busqueda de vecinos
+    private int minCx = Integer.MAX_VALUE, maxCx = Integer.MIN_VALUE;
+    private int minCy = Integer.MAX_VALUE, maxCy = Integer.MIN_VALUE;
+
+    // Mejores candidatos de masCercanos(), ordenados por distancia (solo crecen con k)
+    private Enemigo[] cercanos = new Enemigo[8];
+    private float[] distanciasCercanos = new float[8];
+
+    public GrillaEnemigos() {
+        this(TAM_CELDA_DEFECTO);
+    }
+
+    /**
+     * @param tamCelda lado de cada celda en pixeles
+     */
+    public GrillaEnemigos(float tamCelda) {
+        this.tamCelda = tamCelda;
+    }
+
+    // ——— ALTAS, BAJAS Y MOVIMIENTO ———
+
+    /** Registra un enemigo en la grilla segun su posicion actual. */
+    public void agregar(Enemigo e) {
+        if (e.grilla == this) return;
+        if (e.grilla != null) e.grilla.quitar(e);
+        e.grilla = this;
+        e.celdaGrilla = claveDe(e);
+        celda(e.celdaGrilla).add(e);
+        cantidad++;
+    }
+
+    /** Quita un enemigo de la grilla (por ejemplo, al eliminarlo del juego). */
+    public void quitar(Enemigo e) {
+        if (e.grilla != this) return;
+        List<Enemigo> lista = celdas.get(e.celdaGrilla);
+        if (lista != null) lista.remove(e);
+        e.grilla = null;
+        cantidad--;
+    }
+
+    /**
+     * Reubica al enemigo si su centro cambio de celda.
+     * Se llama cada vez que el enemigo se mueve; si sigue en la misma celda no hace nada.
+     */
+    public void actualizar(Enemigo e) {
+        if (e.grilla != this) return;
+        long nueva = claveDe(e);
+        if (nueva == e.celdaGrilla) return;
+
+        List<Enemigo> vieja = celdas.get(e.celdaGrilla);
+        if (vieja != null) vieja.remove(e);
+        e.celdaGrilla = nueva;
+        celda(nueva).add(e);
+    }
+
+    /** Vacia la grilla. */
+    public void limpiar() {
+        for (List<Enemigo> lista : celdas.values()) {
+            for (Enemigo e : lista) e.grilla = null;
+        }
+        celdas.clear();
+        cantidad = 0;
+        minCx = minCy = Integer.MAX_VALUE;
+        maxCx = maxCy = Integer.MIN_VALUE;
+    }
+
+    /** @return cantidad de enemigos registrados */
+    public int size() {
+        return cantidad;
+    }
+
+    // ——— CONSULTAS ———
+
+    /**
+     * Agrega a salida los enemigos cuya hitbox se solapa con el area dada.
+     * @param area rectangulo de consulta en coordenadas del mundo
+     * @param salida lista donde se agregan los resultados (no se limpia)
+     * @return la misma lista de salida
+     */
+    public List<Enemigo> consultarRectangulo(Rectangle area, List<Enemigo> salida) {
+        int cx0 = celdaDe(area.x - MARGEN_HITBOX);
+        int cx1 = celdaDe(area.x + area.width + MARGEN_HITBOX);
+        int cy0 = celdaDe(area.y - MARGEN_HITBOX);
+        int cy1 = celdaDe(area.y + area.height + MARGEN_HITBOX);
+
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                List<Enemigo> lista = celdas.get(clave(cx, cy));
+                if (lista == null) continue;
+                for (int i = 0, n = lista.size(); i < n; i++) {
+                    Enemigo e = lista.get(i);
+                    if (area.overlaps(e.getHitbox())) salida.add(e);
+                }
+            }
+        }
+        return salida;
+    }
+
+    /**
+     * Agrega a salida los enemigos cuyo centro esta a una distancia menor o igual al radio.
+     * @param cx centro X de la consulta
+     * @param cy centro Y de la consulta
+     * @param radio radio de busqueda en pixeles
+     * @param salida lista donde se agregan los resultados (no se limpia)
+     * @return la misma lista de salida
+     */
+    public List<Enemigo> consultarRadio(float cx, float cy, float radio, List<Enemigo> salida) {
+        int x0 = celdaDe(cx - radio), x1 = celdaDe(cx + radio);
+        int y0 = celdaDe(cy - radio), y1 = celdaDe(cy + radio);
+        float radio2 = radio * radio;
+
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) {
+                List<Enemigo> lista = celdas.get(clave(x, y));
+                if (lista == null) continue;
+                for (int i = 0, n = lista.size(); i < n; i++) {
+                    Enemigo e = lista.get(i);
+                    if (distancia2(e, cx, cy) <= radio2) salida.add(e);
+                }
+            }
+        }
+        return salida;
+    }
+
+    /**
+     * Indica si hay algun enemigo con su centro dentro del radio dado.
+     * Equivale a consultarRadio() pero termina en cuanto encuentra uno.
+     */
+    public boolean hayEnemigoEnRadio(float cx, float cy, float radio) {
+        int x0 = celdaDe(cx - radio), x1 = celdaDe(cx + radio);
+        int y0 = celdaDe(cy - radio), y1 = celdaDe(cy + radio);
+        float radio2 = radio * radio;
+
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) {
+                List<Enemigo> lista = celdas.get(clave(x, y));
+                if (lista == null) continue;
+                for (int i = 0, n = lista.size(); i < n; i++) {
+                    if (distancia2(lista.get(i), cx, cy) <= radio2) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Agrega a salida los k enemigos vivos mas cercanos al punto, ordenados por distancia.
+     * Recorre anillos de celdas alrededor del punto y se detiene en cuanto ningun
+     * anillo restante puede contener un enemigo mas cercano que los ya encontrados.
+     * Los candidatos se mantienen en un top-k acotado con insercion ordenada, asi
+     * que la consulta no crea objetos (salvo la primera vez que se pide un k mayor).
+     * Usa arreglos de la grilla: llamar solo desde el hilo de la simulacion.
+     * @param cx centro X de la consulta
+     * @param cy centro Y de la consulta
+     * @param k cantidad maxima de resultados
+     * @param salida lista donde se agregan los resultados (no se limpia)
+     * @return la misma lista de salida
+     */
+    public List<Enemigo> masCercanos(float cx, float cy, int k, List<Enemigo> salida) {
+        if (k <= 0 || cantidad == 0) return salida;
+        if (cercanos.length < k) {
+            cercanos = new Enemigo[k];
+            distanciasCercanos = new float[k];
+        }
+
+        int celdaX = celdaDe(cx), celdaY = celdaDe(cy);
+        int anilloMax = Math.max(
+            Math.max(Math.abs(celdaX - minCx), Math.abs(maxCx - celdaX)),
+            Math.max(Math.abs(celdaY - minCy), Math.abs(maxCy - celdaY)));
+
+        int encontrados = 0;
+        for (int r = 0; r <= anilloMax; r++) {
+            for (int y = celdaY - r; y <= celdaY + r; y++) {
+                // En las filas intermedias solo se visitan los dos extremos del anillo
+                int paso = (y == celdaY - r || y == celdaY + r) ? 1 : Math.max(1, 2 * r);
+                for (int x = celdaX - r; x <= celdaX + r; x += paso) {
+                    List<Enemigo> lista = celdas.get(clave(x, y));
+                    if (lista == null) continue;
+                    for (int i = 0, n = lista.size(); i < n; i++) {
+                        Enemigo e = lista.get(i);
+                        if (e.estaVivo()) encontrados = insertarCercano(e, distancia2(e, cx, cy), encontrados, k);
+                    }
+                }
+            }
+
+            // Cualquier enemigo fuera de este anillo esta al menos a r celdas de distancia
+            float limite = r * tamCelda;
+            if (encontrados == k && distanciasCercanos[k - 1] <= limite * limite) break;
+        }
+
+        for (int i = 0; i < encontrados; i++) salida.add(cercanos[i]);
+        Arrays.fill(cercanos, 0, encontrados, null);
+        return salida;
+    }
+
+    /**
+     * Inserta un candidato en el top-k ordenado si es mejor que el peor.
+     * @return cantidad de candidatos despues de insertar
+     */
+    private int insertarCercano(Enemigo e, float d2, int encontrados, int k) {
+        if (encontrados == k && d2 >= distanciasCercanos[k - 1]) return encontrados;
+
+        int i = encontrados < k ? encontrados++ : k - 1;
+        while (i > 0 && distanciasCercanos[i - 1] > d2) {
+            cercanos[i] = cercanos[i - 1];
+            distanciasCercanos[i] = distanciasCercanos[i - 1];
+            i--;
+        }
+        cercanos[i] = e;
+        distanciasCercanos[i] = d2;
+        return encontrados;
+    }
+
+    /**
+     * Enemigos registrados en la celda (cx, cy), o null si esta vacia.
+     * Es la lista interna de la grilla: solo se recorre, no se modifica. Sirve
+     * para consultas que filtran con datos propios de cada enemigo en lugar de
+     * su hitbox (ver Enemigo.moverHaciaJugador).
+     */
+    List<Enemigo> enemigosEnCelda(int cx, int cy) {
+        return celdas.get(clave(cx, cy));
+    }
+
+    // ——— AUXILIARES ———
+
+    private List<Enemigo> celda(long clave) {
+        List<Enemigo> lista = celdas.get(clave);
+        if (lista == null) {
+            lista = new ArrayList<>();
+            celdas.put(clave, lista);
+            int cx = (int) (clave >> 32);
+            int cy = (int) clave;
+            minCx = Math.min(minCx, cx);
+            maxCx = Math.max(maxCx, cx);
+            minCy = Math.min(minCy, cy);
+            maxCy = Math.max(maxCy, cy);
+        }
+        return lista;
+    }
+
+    private long claveDe(Enemigo e) {
+        Rectangle h = e.getHitbox();
+        return clave(celdaDe(h.x + h.width * 0.5f), celdaDe(h.y + h.height * 0.5f));
+    }
+
+    int celdaDe(float coordenada) {
+        return (int) Math.floor(coordenada / tamCelda);
+    }
+
+    private static long clave(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static float distancia2(Enemigo e, float x, float y) {
+        Rectangle h = e.getHitbox();
+        float dx = h.x + h.width * 0.5f - x;
+        float dy = h.y + h.height * 0.5f - y;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,130 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Indice estatico de colisiones alineado a los tiles del mapa.
+ * Cada celda (un tile) guarda los rectangulos de colision que la tocan, de modo que
+ * una consulta solo revisa las pocas celdas que cubre el area consultada en lugar
+ * de recorrer todos los obstaculos del mapa.
+ *
+ * Se construye una sola vez al generar el mapa; los obstaculos no se mueven.
+ */
+public class IndiceColisiones {
+
+    private final int ancho, alto;
+    private final int tamTile;
+    private final List<Rectangle>[] celdas;
+    private int cantidad;
+
+    /**
+     * @param ancho ancho del mapa en tiles
+     * @param alto alto del mapa en tiles
+     * @param tamTile tamaño de cada tile en pixeles
+     */
+    @SuppressWarnings("unchecked")
+    public IndiceColisiones(int ancho, int alto, int tamTile) {
+        this.ancho = ancho;
+        this.alto = alto;
+        this.tamTile = tamTile;
+        this.celdas = new List[ancho * alto];
+    }
+
+    /**
+     * Registra un rectangulo de colision en todas las celdas que toca.
+     * Los rectangulos vacios (como el de las piedras) se ignoran.
+     */
+    public void agregar(Rectangle collider) {
+        if (collider.width <= 0 || collider.height <= 0) return;
+
+        int x0 = Math.max(0, tileDe(collider.x));
+        int x1 = Math.min(ancho - 1, tileDe(collider.x + collider.width));
+        int y0 = Math.max(0, tileDe(collider.y));
+        int y1 = Math.min(alto - 1, tileDe(collider.y + collider.height));
+
+        for (int ty = y0; ty <= y1; ty++) {
+            for (int tx = x0; tx <= x1; tx++) {
+                int i = ty * ancho + tx;
+                if (celdas[i] == null) celdas[i] = new ArrayList<>(2);
+                celdas[i].add(collider);
+            }
+        }
+        cantidad++;
+    }
+
+    /**
+     * Indica si el area dada se solapa con algun obstaculo.
+     * No crea objetos, por lo que puede usarse en cada frame.
+     */
+    public boolean colisiona(float x, float y, float w, float h) {
+        int x0 = Math.max(0, tileDe(x));
+        int x1 = Math.min(ancho - 1, tileDe(x + w));
+        int y0 = Math.max(0, tileDe(y));
+        int y1 = Math.min(alto - 1, tileDe(y + h));
+
+        for (int ty = y0; ty <= y1; ty++) {
+            for (int tx = x0; tx <= x1; tx++) {
+                List<Rectangle> lista = celdas[ty * ancho + tx];
+                if (lista == null) continue;
+                for (int i = 0, n = lista.size(); i < n; i++) {
+                    Rectangle r = lista.get(i);
+                    if (x < r.x + r.width && x + w > r.x && y < r.y + r.height && y + h > r.y) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** @see #colisiona(float, float, float, float) */
+    public boolean colisiona(Rectangle area) {
+        return colisiona(area.x, area.y, area.width, area.height);
+    }
+
+    /**
+     * Agrega a salida los obstaculos que se solapan con el area (sin repetir).
+     * @return la misma lista de salida
+     */
+    public List<Rectangle> consultar(Rectangle area, List<Rectangle> salida) {
+        int x0 = Math.max(0, tileDe(area.x));
+        int x1 = Math.min(ancho - 1, tileDe(area.x + area.width));
+        int y0 = Math.max(0, tileDe(area.y));
+        int y1 = Math.min(alto - 1, tileDe(area.y + area.height));
+
+        for (int ty = y0; ty <= y1; ty++) {
+            for (int tx = x0; tx <= x1; tx++) {
+                List<Rectangle> lista = celdas[ty * ancho + tx];
+                if (lista == null) continue;
+                for (int i = 0, n = lista.size(); i < n; i++) {
+                    Rectangle r = lista.get(i);
+                    // Un obstaculo grande puede estar en varias celdas
+                    if (area.overlaps(r) && !salida.contains(r)) salida.add(r);
+                }
+            }
+        }
+        return salida;
+    }
+
+    /** @return ancho del area indexada en pixeles */
+    public float getAnchoPx() {
+        return ancho * tamTile;
+    }
+
+    /** @return alto del area indexada en pixeles */
+    public float getAltoPx() {
+        return alto * tamTile;
+    }
+
+    /** @return cantidad de obstaculos registrados */
+    public int size() {
+        return cantidad;
+    }
+
+    private int tileDe(float coordenada) {
+        return (int) Math.floor(coordenada / tamTile);
+    }
+}
@@ -0,0 +1,112 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indice estatico de los sprites de los elementos del mapa (arboles, piedras)
+ * para saber cuales se ven. Cada celda guarda los indices de los elementos cuyo
+ * sprite la toca; a diferencia de IndiceColisiones usa el tamaño completo del
+ * sprite y no solo el collider.
+ *
+ * Se construye una sola vez al generar el mapa; los elementos no se mueven.
+ */
+public class IndiceElementos {
+
+    // Tamaño de celda en pixeles (8 tiles): un arbol de 128x192 toca a lo sumo 4 celdas
+    public static final float TAM_CELDA = 256f;
+
+    private final List<? extends ElementoDeMapa> elementos;
+    private final int columnas, filas;
+    private final IntArray[] celdas;
+
+    // Marca del ultimo recorrido en que se agrego cada elemento, para no repetirlo
+    private final int[] marcas;
+    private int marcaActual = 0;
+
+    /**
+     * @param elementos elementos del mapa; el indice guarda sus posiciones en esta lista
+     * @param anchoPx ancho del mapa en pixeles
+     * @param altoPx alto del mapa en pixeles
+     */
+    public IndiceElementos(List<? extends ElementoDeMapa> elementos, float anchoPx, float altoPx) {
+        this.elementos = elementos;
+        this.columnas = Math.max(1, (int) Math.ceil(anchoPx / TAM_CELDA));
+        this.filas = Math.max(1, (int) Math.ceil(altoPx / TAM_CELDA));
+        this.celdas = new IntArray[columnas * filas];
+        this.marcas = new int[elementos.size()];
+
+        for (int i = 0; i < elementos.size(); i++) {
+            ElementoDeMapa e = elementos.get(i);
+            int cx0 = columna(e.getX());
+            int cx1 = columna(e.getX() + e.getAncho());
+            int cy0 = fila(e.getY());
+            int cy1 = fila(e.getY() + e.getAlto());
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    int c = cy * columnas + cx;
+                    if (celdas[c] == null) celdas[c] = new IntArray(4);
+                    celdas[c].add(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Agrega a salida los indices de los elementos cuyo sprite se solapa con el area,
+     * ordenados de menor a mayor para respetar el orden de dibujo de la lista.
+     * No crea objetos mientras salida tenga capacidad suficiente.
+     * @param area area consultada en pixeles
+     * @param salida arreglo donde se agregan los indices (se limpia antes)
+     * @return la misma salida
+     */
+    public IntArray consultar(Rectangle area, IntArray salida) {
+        salida.clear();
+        if (++marcaActual == 0) {
+            // Desborde del contador: se reinician las marcas
+            Arrays.fill(marcas, 0);
+            marcaActual = 1;
+        }
+
+        int cx0 = columna(area.x);
+        int cx1 = columna(area.x + area.width);
+        int cy0 = fila(area.y);
+        int cy1 = fila(area.y + area.height);
+
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                IntArray lista = celdas[cy * columnas + cx];
+                if (lista == null) continue;
+                for (int k = 0; k < lista.size; k++) {
+                    int i = lista.get(k);
+                    if (marcas[i] == marcaActual) continue;
+                    marcas[i] = marcaActual;
+
+                    ElementoDeMapa e = elementos.get(i);
+                    if (e.getX() < area.x + area.width && e.getX() + e.getAncho() > area.x
+                        && e.getY() < area.y + area.height && e.getY() + e.getAlto() > area.y) {
+                        salida.add(i);
+                    }
+                }
+            }
+        }
+        salida.sort();
+        return salida;
+    }
+
+    /** @return cantidad de elementos indexados */
+    public int size() {
+        return marcas.length;
+    }
+
+    private int columna(float x) {
+        return Math.max(0, Math.min(columnas - 1, (int) Math.floor(x / TAM_CELDA)));
+    }
+
+    private int fila(float y) {
+        return Math.max(0, Math.min(filas - 1, (int) Math.floor(y / TAM_CELDA)));
+    }
+}
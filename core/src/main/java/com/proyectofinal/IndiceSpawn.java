@@ -0,0 +1,153 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Random;
+
+/**
+ * Indice estatico de las celdas donde puede aparecer un enemigo.
+ * Una celda (un tile) es valida si no es CAMINO y el sprite del enemigo,
+ * apoyado en la esquina del tile, entra en el mapa sin tocar el collider de
+ * ningun arbol.
+ *
+ * Se construye una sola vez al generar el mapa. Las celdas validas se guardan
+ * en un unico arreglo de enteros ordenado por bloques de TILES_POR_BLOQUE x
+ * TILES_POR_BLOQUE tiles, con el inicio de cada bloque, asi que elegir una celda
+ * al azar dentro de un area son unos pocos accesos a arreglos: se sortea un
+ * bloque del area y una celda del bloque, y se descarta si no cumple. El numero
+ * de sorteos esta acotado, por lo que el costo no depende de cuantos arboles o
+ * caminos haya cerca.
+ */
+public class IndiceSpawn {
+
+    /** Valor de muestrear() cuando no se encontro una celda. */
+    public static final int SIN_CELDA = -1;
+
+    /** Lado del sprite de los enemigos que aparecen (un minotauro). */
+    public static final int TAM_ENEMIGO = 64;
+
+    // Lado de cada bloque en tiles
+    private static final int TILES_POR_BLOQUE = 8;
+
+    // Sorteos maximos por llamada a muestrear()
+    private static final int SORTEOS = 8;
+
+    private final int ancho;
+    private final int tamTile;
+    private final int bloquesX, bloquesY;
+
+    // Celdas validas (indice de tile) agrupadas por bloque: las del bloque b van
+    // de inicioBloque[b] a inicioBloque[b + 1] - 1
+    private final int[] celdas;
+    private final int[] inicioBloque;
+
+    /**
+     * @param mapa mapa con su indice de colisiones ya construido
+     * @param tamTile tamaño de cada tile en pixeles
+     */
+    public IndiceSpawn(MapaProcedural mapa, int tamTile) {
+        this.ancho = mapa.getWidth();
+        int alto = mapa.getHeight();
+        this.tamTile = tamTile;
+        this.bloquesX = (ancho + TILES_POR_BLOQUE - 1) / TILES_POR_BLOQUE;
+        this.bloquesY = (alto + TILES_POR_BLOQUE - 1) / TILES_POR_BLOQUE;
+
+        // Primera pasada: marcar las celdas validas y contarlas por bloque
+        boolean[] valida = new boolean[ancho * alto];
+        inicioBloque = new int[bloquesX * bloquesY + 1];
+        int cantidad = 0;
+        for (int ty = 0; ty < alto; ty++) {
+            for (int tx = 0; tx < ancho; tx++) {
+                float x = tx * tamTile;
+                float y = ty * tamTile;
+                if (x + TAM_ENEMIGO > mapa.getAnchoPx() || y + TAM_ENEMIGO > mapa.getAltoPx()) continue;
+                if (mapa.getTile(tx, ty) == MapaProcedural.Tile.CAMINO) continue;
+                if (mapa.hayObstaculo(x, y, TAM_ENEMIGO, TAM_ENEMIGO)) continue;
+
+                valida[ty * ancho + tx] = true;
+                inicioBloque[bloqueDe(tx, ty) + 1]++;
+                cantidad++;
+            }
+        }
+
+        // Acumular los conteos para obtener el inicio de cada bloque
+        for (int b = 0; b < bloquesX * bloquesY; b++) {
+            inicioBloque[b + 1] += inicioBloque[b];
+        }
+
+        // Segunda pasada: ubicar cada celda en el tramo de su bloque
+        celdas = new int[cantidad];
+        int[] siguiente = new int[bloquesX * bloquesY];
+        System.arraycopy(inicioBloque, 0, siguiente, 0, siguiente.length);
+        for (int ty = 0; ty < alto; ty++) {
+            for (int tx = 0; tx < ancho; tx++) {
+                int tile = ty * ancho + tx;
+                if (valida[tile]) celdas[siguiente[bloqueDe(tx, ty)]++] = tile;
+            }
+        }
+    }
+
+    private int bloqueDe(int tx, int ty) {
+        return (ty / TILES_POR_BLOQUE) * bloquesX + tx / TILES_POR_BLOQUE;
+    }
+
+    /**
+     * Elige al azar una celda valida cuyo enemigo quede dentro del area exterior
+     * y sin tocar el area excluida (por ejemplo, un anillo alrededor de la camara).
+     * Hace a lo sumo SORTEOS intentos de costo constante.
+     * @param exterior area donde debe quedar el sprite completo
+     * @param excluida area que el sprite no puede tocar
+     * @return celda elegida (usar getX/getY), o SIN_CELDA si ningun intento sirvio
+     */
+    public int muestrear(Rectangle exterior, Rectangle excluida, Random random) {
+        int bx0 = Math.max(0, bloqueDePixel(exterior.x));
+        int bx1 = Math.min(bloquesX - 1, bloqueDePixel(exterior.x + exterior.width));
+        int by0 = Math.max(0, bloqueDePixel(exterior.y));
+        int by1 = Math.min(bloquesY - 1, bloqueDePixel(exterior.y + exterior.height));
+        if (bx0 > bx1 || by0 > by1) return SIN_CELDA;
+
+        for (int sorteo = 0; sorteo < SORTEOS; sorteo++) {
+            int bx = bx0 + random.nextInt(bx1 - bx0 + 1);
+            int by = by0 + random.nextInt(by1 - by0 + 1);
+            int b = by * bloquesX + bx;
+            int inicio = inicioBloque[b];
+            int cantidadBloque = inicioBloque[b + 1] - inicio;
+            if (cantidadBloque == 0) continue;
+
+            int celda = celdas[inicio + random.nextInt(cantidadBloque)];
+            float x = getX(celda);
+            float y = getY(celda);
+
+            // Dentro del area exterior
+            if (x < exterior.x || y < exterior.y
+                || x + TAM_ENEMIGO > exterior.x + exterior.width
+                || y + TAM_ENEMIGO > exterior.y + exterior.height) continue;
+
+            // Sin tocar el area excluida
+            if (x < excluida.x + excluida.width && x + TAM_ENEMIGO > excluida.x
+                && y < excluida.y + excluida.height && y + TAM_ENEMIGO > excluida.y) continue;
+
+            return celda;
+        }
+        return SIN_CELDA;
+    }
+
+    private int bloqueDePixel(float coordenada) {
+        return (int) Math.floor(coordenada / (tamTile * TILES_POR_BLOQUE));
+    }
+
+    /** @return coordenada X en pixeles (esquina inferior izquierda) de la celda */
+    public float getX(int celda) {
+        return (celda % ancho) * tamTile;
+    }
+
+    /** @return coordenada Y en pixeles (esquina inferior izquierda) de la celda */
+    public float getY(int celda) {
+        return (celda / ancho) * tamTile;
+    }
+
+    /** @return cantidad de celdas validas en todo el mapa */
+    public int size() {
+        return celdas.length;
+    }
+}
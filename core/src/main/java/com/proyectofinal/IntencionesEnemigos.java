@@ -0,0 +1,80 @@
+package com.proyectofinal;
+
+import java.util.Arrays;
+
+/**
+ * Buffer de intenciones de un hilo de TrabajosEnemigos.
+ * Mientras los enemigos se actualizan en paralelo no pueden tocar estado
+ * compartido (la grilla o el jugador); en su lugar anotan aqui lo que quieren
+ * hacer y la fase de commit lo aplica despues en un solo hilo, siempre en el
+ * mismo orden.
+ *
+ * Las intenciones se guardan en arreglos paralelos que solo crecen, asi que
+ * llenar el buffer en cada tick no crea objetos.
+ */
+public class IntencionesEnemigos {
+
+    // Tipos de intencion
+    static final byte MOVER = 0;          // reubicar al enemigo en su grilla
+    static final byte DANIAR_JUGADOR = 1; // aplicar daño al jugador
+
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    byte[] tipo = new byte[CAPACIDAD_INICIAL];
+    Enemigo[] enemigo = new Enemigo[CAPACIDAD_INICIAL];
+    Jugador[] objetivo = new Jugador[CAPACIDAD_INICIAL];
+    int[] valor = new int[CAPACIDAD_INICIAL];
+    int cantidad;
+
+    // Conteos del nivel de detalle de los enemigos de este hilo
+    final int[] enemigosPorNivel = new int[PlanificadorLOD.NIVELES];
+    int actualizacionesCompletas;
+
+    /** El enemigo se movio y hay que reubicarlo en su grilla. */
+    void mover(Enemigo e) {
+        agregar(MOVER, e, null, 0);
+    }
+
+    /** El enemigo golpea al jugador. */
+    void daniarJugador(Enemigo e, Jugador jugador, int cantidadDanio) {
+        agregar(DANIAR_JUGADOR, e, jugador, cantidadDanio);
+    }
+
+    private void agregar(byte t, Enemigo e, Jugador j, int v) {
+        if (cantidad == tipo.length) crecer();
+        tipo[cantidad] = t;
+        enemigo[cantidad] = e;
+        objetivo[cantidad] = j;
+        valor[cantidad] = v;
+        cantidad++;
+    }
+
+    private void crecer() {
+        int nueva = tipo.length * 2;
+        tipo = Arrays.copyOf(tipo, nueva);
+        enemigo = Arrays.copyOf(enemigo, nueva);
+        objetivo = Arrays.copyOf(objetivo, nueva);
+        valor = Arrays.copyOf(valor, nueva);
+    }
+
+    /**
+     * Aplica la intencion i en el hilo que llama.
+     */
+    void aplicar(int i) {
+        if (tipo[i] == MOVER) {
+            Enemigo e = enemigo[i];
+            if (e.grilla != null) e.grilla.actualizar(e);
+        } else {
+            objetivo[i].recibirDanio(valor[i]);
+        }
+    }
+
+    /** Vacia el buffer para el siguiente tick (suelta las referencias). */
+    void limpiar() {
+        Arrays.fill(enemigo, 0, cantidad, null);
+        Arrays.fill(objetivo, 0, cantidad, null);
+        cantidad = 0;
+        for (int n = 0; n < enemigosPorNivel.length; n++) enemigosPorNivel[n] = 0;
+        actualizacionesCompletas = 0;
+    }
+}
@@ -1,17 +1,18 @@
 package com.proyectofinal;
 
 import com.badlogic.gdx.math.Rectangle;
-import java.util.List;
 
 /**
  * Representa al jugador con inventario de pociones y nivel.
  */
 public class Jugador extends Personaje {
     private float x, y;             // Posicion del jugador
+    private float xPrevio, yPrevio; // Posicion al comenzar el tick (para interpolar el dibujo)
     private float width, height;    // Tamano del collider
     private int nivel;              // Nivel actual del jugador
     protected String direccion;     // Direccion hacia la que mira: "IZQUIERDA" o "DERECHA"
     private boolean muerto;         // Estado de vida del jugador
+    private final Rectangle collider = new Rectangle(); // Reutilizado por getCollider()
 
     // Constructor
     public Jugador(String nombre, int vida, int ataque,
@@ -19,6 +20,8 @@ public class Jugador extends Personaje {
         super(nombre, vida, ataque);
         this.x = x;
         this.y = y;
+        this.xPrevio = x;
+        this.yPrevio = y;
         this.width = width;
         this.height = height;
         this.nivel = nivel;
@@ -33,6 +36,8 @@ public class Jugador extends Personaje {
     public int getVida() { return vida; }
     public float getX() { return x; }
     public float getY() { return y; }
+    public float getXPrevio() { return xPrevio; }
+    public float getYPrevio() { return yPrevio; }
     public int getNivel() { return nivel; }
     public boolean estaMuerto() { return muerto; }
 
@@ -47,9 +52,9 @@ public class Jugador extends Personaje {
         return ataque;
     }
 
-    // Devuelve el collider del jugador para colisiones
+    // Devuelve el collider del jugador para colisiones (siempre la misma instancia)
     public Rectangle getCollider() {
-        return new Rectangle(x, y, width, height);
+        return collider.set(x, y, width, height);
     }
 
     // Actualiza la posicion del jugador
@@ -58,6 +63,12 @@ public class Jugador extends Personaje {
         this.y = y;
     }
 
+    // Guarda la posicion actual como la del tick anterior; se llama al inicio de cada tick
+    public void guardarPosicionPrevia() {
+        xPrevio = x;
+        yPrevio = y;
+    }
+
     // Movimiento con delta y actualizacion de direccion
     public void mover(float dirX, float dirY, float delta) {
         float speed = 200f * delta;
@@ -92,10 +103,10 @@ public class Jugador extends Personaje {
 
     /**
      * Metodo generico de ataque. Puede ser sobrescrito por subclases.
-     * @param enemigos lista de enemigos cercanos
+     * @param enemigos indice espacial de los enemigos
      * @return true si el ataque fue efectivo
      */
-    public boolean atacar(List<? extends Enemigo> enemigos) {
+    public boolean atacar(GrillaEnemigos enemigos) {
         System.out.println(nombre + " realiza un ataque basico");
         return false;
     }
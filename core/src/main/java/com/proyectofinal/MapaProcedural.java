@@ -1,8 +1,7 @@
 package com.proyectofinal;
 
 import java.util.Random;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.math.GridPoint2;
 import java.util.List;
 import java.util.ArrayList;
@@ -31,11 +30,28 @@ public class MapaProcedural {
     private List<Arbol> arboles = new ArrayList<>();
     private List<Piedra> piedras = new ArrayList<>();
 
+    // Indice estatico de colisiones (celda -> obstaculos), se arma al generar el mapa
+    private IndiceColisiones colisiones;
+
+    // Indices de los sprites de arboles y piedras para el culling de la vista
+    private IndiceElementos indiceArboles;
+    private IndiceElementos indicePiedras;
+
+    // Celdas donde pueden aparecer enemigos (sin camino ni arboles), se arma al generar el mapa
+    private IndiceSpawn indiceSpawn;
+
+    // Texturas compartidas de arboles y piedras (se crea al cargar las texturas)
+    private RegistroTexturas registroTexturas;
+
     // Constantes de control visual
     private static final int TILE_SIZE = 32;
     private static final int MIN_DIST = 128;
     private static final int MIN_DIST_PIEDRAS = 64;
 
+    // Imagenes de los elementos del mapa (PantallaCarga las precarga con el AssetManager)
+    static final String PREFIJO_ARBOL = "Mapa/Pasto/arbol_";
+    static final String RUTA_PIEDRA = "Mapa/Piedras/piedra_Pasto.png";
+
     /**
      * Constructor de mapa procedural.
      */
@@ -53,6 +69,7 @@ public class MapaProcedural {
         generarCaminoPorSpawn(spawnX, spawnY, 2);
         generarOverlays();
         generarElementos();
+        construirIndices();
     }
 
     /** Llena todo el mapa con pasto verde excepto los bordes. */
@@ -152,32 +169,16 @@ public class MapaProcedural {
         }
     }
 
-    /** Obtiene una textura de arbol aleatoria entre 4 posibles. */
-    private Texture obtenerArbolAleatorio() {
-        try {
-            int arbolId = (int) (Math.random() * 4);
-            return new Texture("Mapa/Pasto/arbol_" + arbolId + ".png");
-        } catch (Exception e) {
-            System.err.println("Error al cargar arbol: " + e.getMessage());
-            return new Texture(32, 32, Pixmap.Format.RGBA8888);
-        }
-    }
-
-    /** Carga la textura para las piedras del mapa. */
-    private Texture obtenerTexturaPiedra() {
-        try {
-            return new Texture("Mapa/Piedras/piedra_Pasto.png");
-        } catch (Exception e) {
-            System.err.println("Error al cargar piedra: " + e.getMessage());
-            return new Texture(32, 32, Pixmap.Format.RGBA8888);
-        }
-    }
-
-    /** Genera arboles y piedras sobre el mapa. */
+    /**
+     * Genera arboles y piedras sobre el mapa.
+     * Solo se guardan posiciones y rutas: las texturas se cargan con cargarTexturas(),
+     * para poder generar el mapa sin graficos. Usa el Random con semilla para que
+     * la misma semilla produzca siempre el mismo mapa.
+     */
     private void generarElementos() {
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                if (base[y][x] == Tile.PASTO_VERDE && Math.random() < 0.005) {
+                if (base[y][x] == Tile.PASTO_VERDE && rand.nextDouble() < 0.005) {
                     boolean espacioDisponible = true;
                     for (Arbol a : arboles) {
                         if (Math.abs(a.getCollider().x - x * TILE_SIZE) < MIN_DIST &&
@@ -187,7 +188,7 @@ public class MapaProcedural {
                         }
                     }
                     if (espacioDisponible) {
-                        Arbol arbol = new Arbol(obtenerArbolAleatorio());
+                        Arbol arbol = new Arbol(PREFIJO_ARBOL + rand.nextInt(4) + ".png");
                         arbol.colocar(x * TILE_SIZE, y * TILE_SIZE);
                         arboles.add(arbol);
                     }
@@ -197,7 +198,7 @@ public class MapaProcedural {
 
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                if (base[y][x] == Tile.PASTO_VERDE && Math.random() < 0.01) {
+                if (base[y][x] == Tile.PASTO_VERDE && rand.nextDouble() < 0.01) {
                     boolean espacioDisponible = true;
                     for (Arbol a : arboles) {
                         if (Math.abs(a.getCollider().x - x * TILE_SIZE) < MIN_DIST &&
@@ -214,7 +215,7 @@ public class MapaProcedural {
                         }
                     }
                     if (espacioDisponible) {
-                        Piedra piedra = new Piedra(obtenerTexturaPiedra());
+                        Piedra piedra = new Piedra(RUTA_PIEDRA);
                         piedra.colocar(x * TILE_SIZE, y * TILE_SIZE);
                         piedras.add(piedra);
                     }
@@ -223,9 +224,62 @@ public class MapaProcedural {
         }
     }
 
+    /**
+     * Vuelve a colocar arboles y piedras sobre el terreno ya generado, partiendo
+     * siempre de la misma semilla. Lo usan los benchmarks para medir solo esta fase.
+     */
+    void regenerarElementos() {
+        arboles.clear();
+        piedras.clear();
+        rand.setSeed(seed);
+        generarElementos();
+        construirIndices();
+    }
+
+    /**
+     * Construye los indices que dependen de los elementos colocados. El de
+     * aparicion va al final porque consulta las colisiones.
+     */
+    private void construirIndices() {
+        construirIndiceColisiones();
+        construirIndicesElementos();
+        construirIndiceSpawn();
+    }
+
+    /** Registra los colliders de los obstaculos en el indice de colisiones por tile. */
+    private void construirIndiceColisiones() {
+        colisiones = new IndiceColisiones(width, height, TILE_SIZE);
+        for (Arbol a : arboles) colisiones.agregar(a.getCollider());
+        for (Piedra p : piedras) colisiones.agregar(p.getCollider()); // sin area, se ignoran
+    }
+
+    /** Registra los sprites de arboles y piedras en los indices que usa el culling de la vista. */
+    private void construirIndicesElementos() {
+        indiceArboles = new IndiceElementos(arboles, getAnchoPx(), getAltoPx());
+        indicePiedras = new IndiceElementos(piedras, getAnchoPx(), getAltoPx());
+    }
+
+    /** Registra las celdas libres de obstaculos donde pueden aparecer enemigos. */
+    private void construirIndiceSpawn() {
+        indiceSpawn = new IndiceSpawn(this, TILE_SIZE);
+    }
+
     // Getters y funciones de ayuda
     public List<Arbol> getArboles() { return arboles; }
     public List<Piedra> getPiedras() { return piedras; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getAnchoPx() { return width * TILE_SIZE; }
+    public int getAltoPx() { return height * TILE_SIZE; }
+    public IndiceColisiones getColisiones() { return colisiones; }
+    public IndiceElementos getIndiceArboles() { return indiceArboles; }
+    public IndiceElementos getIndicePiedras() { return indicePiedras; }
+    public IndiceSpawn getIndiceSpawn() { return indiceSpawn; }
+
+    /** Indica si el area dada (en pixeles) choca con algun obstaculo del mapa. */
+    public boolean hayObstaculo(float x, float y, float w, float h) {
+        return colisiones.colisiona(x, y, w, h);
+    }
     public Tile getTile(int x, int y) {
         if (x < 0 || x >= width || y < 0 || y >= height) return Tile.PASTO_VERDE;
         return base[y][x];
@@ -237,9 +291,34 @@ public class MapaProcedural {
         return x>=0 && x<width && y>=0 && y<height && overlayAmarillo[y][x];
     }
 
-    /** Libera recursos graficos del mapa. */
+    /** Carga las texturas de arboles y piedras. Solo se llama cuando hay graficos. */
+    public void cargarTexturas() {
+        cargarTexturas(null);
+    }
+
+    /**
+     * Carga las texturas de arboles y piedras a traves del registro del mapa:
+     * cada ruta distinta se carga una sola vez (o se toma del AssetManager).
+     * @param assets administrador de assets del juego (puede ser null)
+     */
+    public void cargarTexturas(AssetManager assets) {
+        if (registroTexturas == null) registroTexturas = new RegistroTexturas(assets);
+        for (Arbol a : arboles) a.cargarTextura(registroTexturas);
+        for (Piedra p : piedras) p.cargarTextura(registroTexturas);
+    }
+
+    /** @return registro de texturas de los elementos (null si aun no se cargaron) */
+    public RegistroTexturas getRegistroTexturas() {
+        return registroTexturas;
+    }
+
+    /** Libera recursos graficos del mapa: cada textura unica se libera una sola vez. */
     public void dispose() {
-        for (Arbol a : arboles) if (a.texture != null) a.texture.dispose();
-        for (Piedra p : piedras) if (p.texture != null) p.texture.dispose();
+        for (Arbol a : arboles) a.dispose();
+        for (Piedra p : piedras) p.dispose();
+        if (registroTexturas != null) {
+            registroTexturas.dispose();
+            registroTexturas = null;
+        }
     }
 }
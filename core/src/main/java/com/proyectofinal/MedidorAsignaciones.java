@@ -0,0 +1,137 @@
+package com.proyectofinal;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Modo de depuracion que mide cuantos bytes reserva el hilo de render en cada frame.
+ * Usa com.sun.management.ThreadMXBean (disponible en HotSpot/OpenJDK).
+ *
+ * Se activa arrancando el juego con la propiedad del sistema
+ * -Drpg.asignaciones.umbral=BYTES. Tras un periodo de calentamiento, si un frame
+ * reserva mas bytes que el umbral se lanza una IllegalStateException para que la
+ * regresion no pase desapercibida.
+ *
+ * SimulacionSinGraficos usa el mismo medidor por tick de simulacion (tarea
+ * core:verificarAsignaciones), y ademas exige con verificarEstadoEstable() que
+ * la mayoria de los ticks no reserve nada: una regresion que deja basura en
+ * todos los ticks falla aunque cada tick quede bajo el umbral.
+ */
+public class MedidorAsignaciones {
+
+    public static final String PROPIEDAD_UMBRAL = "rpg.asignaciones.umbral";
+
+    // Frames que se ignoran al inicio (carga de clases, JIT, pools que se llenan)
+    private static final int FRAMES_CALENTAMIENTO = 300;
+
+    private final com.sun.management.ThreadMXBean mxBean;
+    private final long umbralBytes;
+    private final int framesCalentamiento;
+    private long bytesInicioFrame;
+    private long ultimoFrameBytes;
+    private long maximoBytes;
+    private int frames;
+    private int framesConAsignaciones;
+
+    private MedidorAsignaciones(com.sun.management.ThreadMXBean mxBean, long umbralBytes, int framesCalentamiento) {
+        this.mxBean = mxBean;
+        this.umbralBytes = umbralBytes;
+        this.framesCalentamiento = framesCalentamiento;
+    }
+
+    /**
+     * Crea el medidor si la propiedad del sistema esta definida y la JVM lo soporta.
+     * @return el medidor, o null si el modo esta desactivado
+     */
+    public static MedidorAsignaciones desdePropiedades() {
+        return desdePropiedades(FRAMES_CALENTAMIENTO);
+    }
+
+    /**
+     * Igual que desdePropiedades(), con otro calentamiento.
+     * @param framesCalentamiento frames iniciales que no se controlan
+     */
+    public static MedidorAsignaciones desdePropiedades(int framesCalentamiento) {
+        String valor = System.getProperty(PROPIEDAD_UMBRAL);
+        if (valor == null) return null;
+
+        long umbral;
+        try {
+            umbral = Long.parseLong(valor.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Valor invalido para " + PROPIEDAD_UMBRAL + ": " + valor);
+            return null;
+        }
+        return crear(umbral, framesCalentamiento);
+    }
+
+    /**
+     * Crea un medidor con umbral y calentamiento explicitos.
+     * @param umbral bytes que puede reservar un frame tras el calentamiento
+     * @param framesCalentamiento frames iniciales que no se controlan
+     * @return el medidor, o null si la JVM no permite medir por hilo
+     */
+    public static MedidorAsignaciones crear(long umbral, int framesCalentamiento) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+            || !bean.isThreadAllocatedMemorySupported()) {
+            System.err.println("La JVM no permite medir memoria reservada por hilo");
+            return null;
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        System.out.println("Medicion de asignaciones activa, umbral: " + umbral + " bytes/frame");
+        return new MedidorAsignaciones(bean, umbral, framesCalentamiento);
+    }
+
+    /** Marca el inicio del frame. */
+    public void inicioFrame() {
+        bytesInicioFrame = mxBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Marca el fin del frame y compara lo reservado contra el umbral.
+     * @throws IllegalStateException si el frame supero el umbral tras el calentamiento
+     */
+    public void finFrame() {
+        ultimoFrameBytes = mxBean.getCurrentThreadAllocatedBytes() - bytesInicioFrame;
+        frames++;
+        if (frames <= framesCalentamiento) return;
+
+        if (ultimoFrameBytes > 0) framesConAsignaciones++;
+        if (ultimoFrameBytes > maximoBytes) maximoBytes = ultimoFrameBytes;
+        if (ultimoFrameBytes > umbralBytes) {
+            throw new IllegalStateException("El frame " + frames + " reservo " + ultimoFrameBytes
+                + " bytes (umbral " + umbralBytes + ")");
+        }
+    }
+
+    /**
+     * Comprueba que la memoria reservada sea ocasional (eventos como una pocion
+     * nueva) y no parte de cada frame.
+     * @param fraccionMaxima fraccion de los frames medidos que puede reservar algo
+     * @throws IllegalStateException si reservaron mas frames que los permitidos
+     */
+    public void verificarEstadoEstable(float fraccionMaxima) {
+        int medidos = getFramesMedidos();
+        if (framesConAsignaciones > medidos * fraccionMaxima) {
+            throw new IllegalStateException(framesConAsignaciones + " de " + medidos
+                + " frames reservaron memoria (maximo " + (int) (fraccionMaxima * 100) + "%)");
+        }
+    }
+
+    /** @return frames controlados (los posteriores al calentamiento) */
+    public int getFramesMedidos() {
+        return Math.max(0, frames - framesCalentamiento);
+    }
+
+    /** @return frames controlados que reservaron al menos un byte */
+    public int getFramesConAsignaciones() {
+        return framesConAsignaciones;
+    }
+
+    public long getUltimoFrameBytes() {
+        return ultimoFrameBytes;
+    }
+
+    public long getMaximoBytes() {
+        return maximoBytes;
+    }
+}
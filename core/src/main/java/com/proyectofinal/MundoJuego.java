@@ -0,0 +1,321 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Nucleo de la simulacion del juego, independiente del render.
+ * Es dueño del mapa, el jugador, los enemigos, los proyectiles y las pociones,
+ * y los avanza un tick a la vez leyendo una FuenteEntrada. No toca la GPU ni
+ * Gdx.input, asi que puede correr sin ventana (ver SimulacionSinGraficos);
+ * DungeonScreen solo lo consulta para dibujar.
+ */
+public class MundoJuego implements Disposable {
+
+    // Dimensiones del mapa en tiles y tamaño de cada tile en pixeles
+    public static final int MAP_WIDTH = 150;
+    public static final int MAP_HEIGHT = 150;
+    public static final int TILE_SIZE = 32;
+
+    // Configuracion de generacion de enemigos tipo minotauro
+    private static final float TIEMPO_ENTRE_SPAWNS = 4f;       // Tiempo entre oleadas de minotauros
+    private static final int MINOTAUROS_POR_OLEADA = 3;
+    private static final int MAX_MINOTAUROS = 30;
+    private static final float MARGEN_SPAWN = 300f;            // Distancia fuera del area visible
+    private static final int INTENTOS_POR_MINOTAURO = 4;       // Sorteos de IndiceSpawn por minotauro
+
+    // Tamaño por defecto del area visible (ventana de 800x480 con zoom 0.6)
+    private static final float ANCHO_VISTA_DEFECTO = 480f;
+    private static final float ALTO_VISTA_DEFECTO = 288f;
+
+    private final MapaProcedural mapa;
+    private final Jugador jugador;
+    private final ControlJugador control;
+    private final FuenteEntrada entrada;
+    private final GestionPociones gestionPociones;
+    private final Random random;
+
+    // Enemigos activos y su indice espacial
+    private final List<Enemigo> enemigos = new ArrayList<>();
+    private final GrillaEnemigos grillaEnemigos = new GrillaEnemigos();
+
+    // Minotauros muertos guardados para las proximas oleadas
+    private final PoolEnemigos poolMinotauros;
+    private final List<Enemigo> eliminados = new ArrayList<>();
+
+    // Camino compartido de todos los enemigos hacia el jugador
+    private final CampoFlujo campoFlujo;
+
+    // Frecuencia de actualizacion de cada enemigo segun su distancia a la camara
+    private final PlanificadorLOD planificadorLOD = new PlanificadorLOD();
+
+    // Reparto de la IA de enemigos entre hilos cuando la horda es grande
+    private final TrabajosEnemigos trabajosEnemigos = TrabajosEnemigos.desdePropiedades();
+
+    // Proyectiles en vuelo o en animacion de impacto
+    private final SistemaProyectiles proyectiles = new SistemaProyectiles();
+
+    // Area que ve la camara, centrada en el jugador en cada tick
+    private final Rectangle areaVisible = new Rectangle();
+    private float anchoVista = ANCHO_VISTA_DEFECTO;
+    private float altoVista = ALTO_VISTA_DEFECTO;
+
+    private final Rectangle boundsJugador = new Rectangle();
+    private final Rectangle areaSpawn = new Rectangle();
+    private float tiempoUltimoSpawn = 0f;
+    private long ticks;
+    private float tiempo;
+
+    // Medicion de tiempos por etapa (null si no se esta perfilando)
+    private PerfilFrame perfil;
+
+    /**
+     * Genera el mapa y coloca al jugador en el centro.
+     * @param claseJugador "Caballero", "Mago" o "Arquero"
+     * @param seed semilla del mapa y de las oleadas
+     * @param entrada fuente de entrada del jugador
+     */
+    public MundoJuego(String claseJugador, long seed, FuenteEntrada entrada) {
+        this.entrada = entrada;
+        this.random = new Random(seed);
+
+        int spawnTileX = MAP_WIDTH / 2;
+        int spawnTileY = MAP_HEIGHT / 2;
+        mapa = new MapaProcedural(MAP_WIDTH, MAP_HEIGHT, seed, spawnTileX, spawnTileY);
+        proyectiles.setLimitesMundo(0, mapa.getAnchoPx());
+
+        jugador = crearJugador(claseJugador);
+        jugador.setPosition(spawnTileX * TILE_SIZE, spawnTileY * TILE_SIZE);
+        jugador.guardarPosicionPrevia();
+        control = new ControlJugador(jugador, this);
+        campoFlujo = new CampoFlujo(mapa, TILE_SIZE,
+            jugador.getX() + jugador.getWidth() * 0.5f, jugador.getY() + jugador.getHeight() * 0.5f);
+
+        gestionPociones = new GestionPociones(mapa);
+        actualizarAreaVisible();
+
+        // Crear de antemano todos los minotauros que puede haber a la vez
+        poolMinotauros = new PoolEnemigos((x, y) -> new Minotauro(x, y, jugador), MAX_MINOTAUROS);
+        poolMinotauros.precalentar(MAX_MINOTAUROS);
+    }
+
+    /**
+     * Crea el modelo del jugador segun la clase seleccionada.
+     */
+    public static Jugador crearJugador(String clase) {
+        switch (clase) {
+            case "Arquero":
+                return new Arquero("Legolas", 180, 15, 0.8f, 10, 32f, 32f, 40, 15);
+            case "Mago":
+                return new Mago("Gandalf", 150, 12, 50, 0.8f, 32f, 32f, 1);
+            case "Caballero":
+                return new Caballero("Arthur", 200, 15, 50, 0.8f, 32f, 32f, 100);
+            default:
+                return new Jugador("Héroe", 100, 10, 100f, 100f, 32f, 32f, 1);
+        }
+    }
+
+    /**
+     * Tamaño del area que ve la camara (ya multiplicado por el zoom).
+     * Las oleadas aparecen fuera de esta area y las pociones dentro.
+     */
+    public void setTamanoVista(float ancho, float alto) {
+        this.anchoVista = ancho;
+        this.altoVista = alto;
+    }
+
+    /**
+     * Activa la medicion de tiempos por etapa del tick. El llamador es quien
+     * abre y cierra el frame del perfil; null la desactiva.
+     */
+    public void setPerfil(PerfilFrame perfil) {
+        this.perfil = perfil;
+    }
+
+    /**
+     * Avanza la simulacion un tick. DungeonScreen lo llama con el paso fijo de
+     * PasoFijo; las posiciones del tick anterior quedan guardadas para interpolar.
+     * @param delta tiempo del tick en segundos
+     */
+    public void actualizar(float delta) {
+        ticks++;
+        tiempo += delta;
+        jugador.guardarPosicionPrevia();
+
+        // 1) Movimiento y ataques del jugador
+        control.actualizar(delta, entrada, grillaEnemigos);
+        actualizarAreaVisible();
+        boundsJugador.set(jugador.getX(), jugador.getY(), jugador.getWidth(), jugador.getHeight());
+        if (perfil != null) perfil.marcar(PerfilFrame.ENTRADA);
+
+        // 2) Oleadas estilo Vampire Survivors
+        tiempoUltimoSpawn += delta;
+        if (tiempoUltimoSpawn >= TIEMPO_ENTRE_SPAWNS && enemigos.size() < MAX_MINOTAUROS) {
+            spawnMinotaurosOleada();
+            tiempoUltimoSpawn = 0f;
+        }
+        if (perfil != null) perfil.marcar(PerfilFrame.OLEADAS);
+
+        // 3) Avanzar el campo de flujo (costo acotado por tick, no por enemigo),
+        // actualizar enemigos (en paralelo si son muchos) y remover los que ya
+        // deben desaparecer
+        campoFlujo.actualizar(jugador.getX() + jugador.getWidth() * 0.5f, jugador.getY() + jugador.getHeight() * 0.5f);
+        planificadorLOD.comenzarTick(areaVisible);
+        trabajosEnemigos.actualizar(enemigos, grillaEnemigos, planificadorLOD, delta,
+            jugador.getX(), jugador.getY(), eliminados);
+        for (int i = 0; i < eliminados.size(); i++) poolMinotauros.devolver(eliminados.get(i));
+        eliminados.clear();
+        if (perfil != null) perfil.marcar(PerfilFrame.ENEMIGOS);
+
+        // 4) Pociones
+        gestionPociones.setAreaVisible(areaVisible);
+        gestionPociones.actualizar(delta, boundsJugador, jugador);
+        if (perfil != null) perfil.marcar(PerfilFrame.POCIONES);
+
+        // 5) Proyectiles: movimiento, colisiones y limpieza
+        proyectiles.mover(delta);
+        proyectiles.comprobarColisiones(grillaEnemigos);
+        proyectiles.eliminarTerminados();
+        if (perfil != null) perfil.marcar(PerfilFrame.PROYECTILES);
+
+        // 6) Temporizadores propios de cada clase (escudo, modo ilimitado, cooldowns)
+        jugador.actualizar(delta);
+        if (perfil != null) perfil.marcar(PerfilFrame.TEMPORIZADORES);
+    }
+
+    private void actualizarAreaVisible() {
+        float cx = jugador.getX() + jugador.getWidth() * 0.5f;
+        float cy = jugador.getY() + jugador.getHeight() * 0.5f;
+        areaVisible.set(cx - anchoVista * 0.5f, cy - altoVista * 0.5f, anchoVista, altoVista);
+    }
+
+    /**
+     * Genera una oleada de minotauros que aparecen fuera del area visible.
+     * Se inspiran en el estilo de aparicion de enemigos del juego Vampire Survivors.
+     * Las posiciones se sortean entre las celdas libres que el mapa precalculo
+     * (IndiceSpawn) dentro del anillo de MARGEN_SPAWN alrededor de la camara, con
+     * un numero acotado de intentos de costo constante por minotauro.
+     * Los minotauros salen del pool, precalentado al crear el mundo. Se llama
+     * antes de actualizar a los enemigos, asi que los nuevos ya se mueven en
+     * este mismo tick.
+     */
+    private void spawnMinotaurosOleada() {
+        IndiceSpawn indiceSpawn = mapa.getIndiceSpawn();
+
+        // Anillo alrededor del area visible, sin salir del mapa
+        float minSpawnX = Math.max(areaVisible.x - MARGEN_SPAWN, 0);
+        float minSpawnY = Math.max(areaVisible.y - MARGEN_SPAWN, 0);
+        float maxSpawnX = Math.min(areaVisible.x + areaVisible.width + MARGEN_SPAWN, mapa.getAnchoPx());
+        float maxSpawnY = Math.min(areaVisible.y + areaVisible.height + MARGEN_SPAWN, mapa.getAltoPx());
+        areaSpawn.set(minSpawnX, minSpawnY, maxSpawnX - minSpawnX, maxSpawnY - minSpawnY);
+
+        int minotaurosGenerados = 0;
+        for (int intento = 0; intento < MINOTAUROS_POR_OLEADA * INTENTOS_POR_MINOTAURO
+            && minotaurosGenerados < MINOTAUROS_POR_OLEADA && enemigos.size() < MAX_MINOTAUROS; intento++) {
+            int celda = indiceSpawn.muestrear(areaSpawn, areaVisible, random);
+            if (celda == IndiceSpawn.SIN_CELDA) continue;
+
+            float spawnX = indiceSpawn.getX(celda);
+            float spawnY = indiceSpawn.getY(celda);
+            float mitad = IndiceSpawn.TAM_ENEMIGO * 0.5f;
+
+            // Verificar si esta muy cerca de otros minotauros (centro del sprite)
+            if (grillaEnemigos.hayEnemigoEnRadio(spawnX + mitad, spawnY + mitad, 150)) continue;
+
+            Enemigo minotauro = poolMinotauros.obtener(spawnX, spawnY);
+            minotauro.campoFlujo = campoFlujo;
+            minotauro.colisiones = mapa.getColisiones();
+            minotauro.estadoActual = Enemigo.EstadoEnemigo.RUNNING; // activar persecucion
+            enemigos.add(minotauro);
+            grillaEnemigos.agregar(minotauro);
+            planificadorLOD.registrar(minotauro);
+            minotaurosGenerados++;
+        }
+    }
+
+    // ——— PROYECTILES ———
+
+    /**
+     * Crea un hechizo desde la posicion actual del Mago.
+     * El ataque especial es mas grande, mas rapido, hace el doble de daño y atraviesa enemigos.
+     */
+    void lanzarHechizo(boolean especial) {
+        if (!(jugador instanceof Mago mago)) return;
+
+        float offsetX = "DERECHA".equals(jugador.direccion) ? jugador.getWidth() : -16;
+        float escala = especial ? 1.5f : 1.0f;
+        float velocidad = especial ? 500f : 400f;
+        int danoHechizo = mago.getDanoBase() * (especial ? 2 : 1) + 20;
+
+        proyectiles.lanzarHechizo(
+            jugador.getX() + offsetX,
+            jugador.getY() + jugador.getHeight() / 2 - 8,
+            !"DERECHA".equals(jugador.direccion),
+            danoHechizo,
+            velocidad,
+            escala,
+            50f,
+            especial
+        );
+    }
+
+    /**
+     * Crea una flecha con daño letal desde la posicion actual del Arquero.
+     * La flecha ya fue descontada por Arquero.atacar().
+     */
+    void lanzarFlecha() {
+        if (!(jugador instanceof Arquero)) return;
+
+        float offsetX = "DERECHA".equals(jugador.direccion) ? jugador.getWidth() : -16;
+
+        // La flecha es una fila del sistema de proyectiles: no se copian frames ni se crean actores
+        proyectiles.lanzarFlecha(
+            jugador.getX() + offsetX,
+            jugador.getY() + jugador.getHeight() / 2 - 8,
+            !"DERECHA".equals(jugador.direccion),
+            9999,
+            600f,
+            0.5f
+        );
+    }
+
+    // ——— CONSULTAS ———
+
+    public MapaProcedural getMapa() { return mapa; }
+    public Jugador getJugador() { return jugador; }
+    public ControlJugador getControl() { return control; }
+    public List<Enemigo> getEnemigos() { return enemigos; }
+    public GrillaEnemigos getGrillaEnemigos() { return grillaEnemigos; }
+    public CampoFlujo getCampoFlujo() { return campoFlujo; }
+    public PlanificadorLOD getPlanificadorLOD() { return planificadorLOD; }
+    public TrabajosEnemigos getTrabajosEnemigos() { return trabajosEnemigos; }
+    public PoolEnemigos getPoolMinotauros() { return poolMinotauros; }
+    public SistemaProyectiles getProyectiles() { return proyectiles; }
+    public GestionPociones getGestionPociones() { return gestionPociones; }
+    public Rectangle getBoundsJugador() { return boundsJugador; }
+
+    /** @return ticks simulados desde que se creo el mundo */
+    public long getTicks() { return ticks; }
+
+    /** @return segundos simulados desde que se creo el mundo */
+    public float getTiempo() { return tiempo; }
+
+    /**
+     * Libera los recursos del mundo. Las regiones de sprites pertenecen al AtlasJuego.
+     */
+    @Override
+    public void dispose() {
+        mapa.dispose();
+        for (Enemigo enemigo : enemigos) enemigo.dispose();
+        enemigos.clear();
+        grillaEnemigos.limpiar();
+        poolMinotauros.dispose();
+        trabajosEnemigos.dispose();
+        proyectiles.limpiar();
+        gestionPociones.dispose();
+    }
+}
@@ -0,0 +1,199 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/**
+ * Panel de depuracion con los tiempos de cada etapa del frame (promedio y p99)
+ * y los contadores de GLProfiler del ultimo frame: draw calls, cambios de
+ * textura, cambios de shader y llamadas GL. Tambien los ticks de logica del
+ * frame, los enemigos por nivel de detalle, los vaciados del batch en la
+ * pasada del mundo y las entidades dibujadas y descartadas por el culling.
+ *
+ * Se muestra y oculta con F3. Mientras esta oculto el GLProfiler queda
+ * desactivado, asi que no agrega costo al juego normal.
+ */
+public class OverlayPerfil {
+
+    // Las estadisticas se recalculan cada cierta cantidad de frames (ordenan 240 muestras por etapa)
+    private static final int FRAMES_ENTRE_CALCULOS = 30;
+    private static final float MARGEN = 10f;
+    private static final float ANCHO_PANEL = 330f;
+
+    private final PerfilFrame perfil;
+    private final RecorteVista recorte;
+    private final PasoFijo pasoFijo;
+    private final PlanificadorLOD planificadorLOD;
+    private final GLProfiler glProfiler;
+    private boolean visible = false;
+    private int framesDesdeCalculo = 0;
+
+    // Contadores del ultimo frame completo
+    private int drawCalls;
+    private int cambiosTextura;
+    private int cambiosShader;
+    private int llamadasGL;
+    private int vaciadosMundo;
+    private int spritesMundo;
+
+    // Texto reutilizado para no crear Strings por frame
+    private final StringBuilder linea = new StringBuilder(64);
+
+    public OverlayPerfil(PerfilFrame perfil, RecorteVista recorte, PasoFijo pasoFijo,
+                         PlanificadorLOD planificadorLOD) {
+        this.perfil = perfil;
+        this.recorte = recorte;
+        this.pasoFijo = pasoFijo;
+        this.planificadorLOD = planificadorLOD;
+        this.glProfiler = new GLProfiler(Gdx.graphics);
+    }
+
+    /** Muestra u oculta el panel y activa el GLProfiler solo mientras esta visible. */
+    public void alternar() {
+        visible = !visible;
+        if (visible) {
+            glProfiler.enable();
+            glProfiler.reset();
+            perfil.calcularEstadisticas();
+            framesDesdeCalculo = 0;
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Registra lo que costo la pasada unica del mundo (ColaRender).
+     * @param vaciados veces que el batch se vacio durante la pasada (renderCalls)
+     * @param sprites sprites dibujados en la pasada
+     */
+    public void setPasadaMundo(int vaciados, int sprites) {
+        this.vaciadosMundo = vaciados;
+        this.spritesMundo = sprites;
+    }
+
+    /**
+     * Se llama al terminar de dibujar el frame: guarda los contadores GL del frame
+     * y reinicia el profiler para el siguiente.
+     */
+    public void finFrame() {
+        if (!visible) return;
+
+        drawCalls = glProfiler.getDrawCalls();
+        cambiosTextura = glProfiler.getTextureBindings();
+        cambiosShader = glProfiler.getShaderSwitches();
+        llamadasGL = glProfiler.getCalls();
+        glProfiler.reset();
+
+        if (++framesDesdeCalculo >= FRAMES_ENTRE_CALCULOS) {
+            perfil.calcularEstadisticas();
+            framesDesdeCalculo = 0;
+        }
+    }
+
+    /**
+     * Dibuja el panel en la esquina superior derecha. El batch debe estar
+     * iniciado con una matriz de pantalla.
+     */
+    public void dibujar(Batch batch, BitmapFont font) {
+        if (!visible) return;
+
+        float x = Gdx.graphics.getWidth() - ANCHO_PANEL;
+        float y = Gdx.graphics.getHeight() - MARGEN;
+        float alto = font.getLineHeight();
+
+        font.setColor(Color.YELLOW);
+        linea.setLength(0);
+        linea.append("FPS ").append(Gdx.graphics.getFramesPerSecond())
+            .append("  (").append(perfil.getCantidadMuestras()).append(" frames)");
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        linea.setLength(0);
+        linea.append("Draw calls ").append(drawCalls)
+            .append("  Texturas ").append(cambiosTextura)
+            .append("  Shaders ").append(cambiosShader);
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        linea.setLength(0);
+        linea.append("Llamadas GL ").append(llamadasGL);
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        linea.setLength(0);
+        linea.append("Logica ").append((int) pasoFijo.getHz()).append(" Hz: ")
+            .append(pasoFijo.getTicksUltimoFrame()).append(" ticks  ")
+            .append(pasoFijo.getTicksDescartados()).append(" descartados");
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        // Enemigos por nivel de detalle en el ultimo tick
+        linea.setLength(0);
+        linea.append("LOD");
+        for (int n = 0; n < PlanificadorLOD.NIVELES; n++) {
+            linea.append(' ').append(PlanificadorLOD.getNombre(n)).append(' ')
+                .append(planificadorLOD.getEnemigos(n));
+        }
+        linea.append("  IA ").append(planificadorLOD.getActualizacionesCompletas());
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        linea.setLength(0);
+        linea.append("Mundo: ").append(spritesMundo).append(" sprites en ")
+            .append(vaciadosMundo).append(" vaciados");
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        // Culling: dibujados / descartados del ultimo frame
+        linea.setLength(0);
+        linea.append("Culling: ").append(recorte.getTotalDibujados())
+            .append(" dibujados / ").append(recorte.getTotalDescartados()).append(" descartados");
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        font.setColor(Color.WHITE);
+        for (int c = 0; c < RecorteVista.CATEGORIAS; c++) {
+            linea.setLength(0);
+            linea.append("  ").append(RecorteVista.getNombre(c)).append(": ")
+                .append(recorte.getDibujados(c)).append(" / ").append(recorte.getDescartados(c));
+            font.draw(batch, linea, x, y);
+            y -= alto;
+        }
+        font.setColor(Color.YELLOW);
+        y -= alto * 0.5f;
+
+        linea.setLength(0);
+        linea.append("Etapa: prom / p99 (ms)");
+        font.draw(batch, linea, x, y);
+        y -= alto;
+
+        font.setColor(Color.WHITE);
+        for (int etapa = 0; etapa < PerfilFrame.ETAPAS; etapa++) {
+            if (etapa == PerfilFrame.TOTAL) font.setColor(Color.YELLOW);
+            linea.setLength(0);
+            linea.append(PerfilFrame.getNombre(etapa)).append(": ");
+            agregarMs(perfil.getPromedioMs(etapa));
+            linea.append(" / ");
+            agregarMs(perfil.getP99Ms(etapa));
+            font.draw(batch, linea, x, y);
+            y -= alto;
+        }
+        font.setColor(Color.WHITE);
+    }
+
+    /** Agrega milisegundos con dos decimales sin pasar por String.format. */
+    private void agregarMs(float ms) {
+        int centesimas = Math.round(Math.max(0f, ms) * 100f);
+        linea.append(centesimas / 100).append('.');
+        int resto = centesimas % 100;
+        if (resto < 10) linea.append('0');
+        linea.append(resto);
+    }
+}
@@ -11,24 +11,58 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 /**
  * Clase base abstracta para todas las pantallas del juego.
  * Define una estructura comun que maneja Stage, Skin y logica de UI.
+ *
+ * Ciclo de vida: construir -> cargar -> show -> hide -> dispose.
+ * El constructor solo guarda referencias; cargar() crea los recursos pesados
+ * una unica vez, en el primer show(). Si la pantalla se vuelve a mostrar solo
+ * se reasigna el input. RPGGame libera la pantalla cuando es reemplazada.
  */
 public abstract class PantallaBase extends ScreenAdapter {
     protected Stage stage;  // Contenedor principal de elementos visuales
     protected Skin  skin;   // Apariencia visual para los componentes UI
 
+    private boolean cargada = false;
+
     public PantallaBase() { }
 
     /**
-     * Se ejecuta cuando la pantalla se muestra. Inicializa Stage, Skin e input.
+     * Se ejecuta cuando la pantalla se muestra. La primera vez carga sus
+     * recursos; siempre asigna el input a su stage.
      */
     @Override
     public void show() {
-        stage = new Stage(new ScreenViewport()); // Viewport que adapta a la resolucion
+        if (!cargada) {
+            cargar();
+            cargada = true;
+        }
         Gdx.input.setInputProcessor(stage);      // Asigna el input a esta pantalla
+    }
+
+    /**
+     * Crea los recursos de la pantalla. Se llama una sola vez.
+     * Por defecto crea el Stage y el Skin de los menus y llama a initUI().
+     */
+    protected void cargar() {
+        stage = new Stage(new ScreenViewport()); // Viewport que adapta a la resolucion
         skin  = new Skin(Gdx.files.internal("ui/uiskin.json")); // Carga el skin visual
         initUI(); // Llama a la implementacion concreta de la UI
     }
 
+    /**
+     * Al ocultarse, la pantalla deja de recibir input.
+     */
+    @Override
+    public void hide() {
+        if (Gdx.input.getInputProcessor() == stage) {
+            Gdx.input.setInputProcessor(null);
+        }
+    }
+
+    /** @return true si la pantalla ya creo sus recursos */
+    public boolean isCargada() {
+        return cargada;
+    }
+
     /**
      * Crea una tabla centrada que ocupa toda la pantalla y la agrega al stage.
      * Util para alinear botones u otros elementos.
@@ -62,7 +96,7 @@ public abstract class PantallaBase extends ScreenAdapter {
      */
     @Override
     public void resize(int width, int height) {
-        stage.getViewport().update(width, height, true);
+        if (stage != null) stage.getViewport().update(width, height, true);
     }
 
     /**
@@ -70,7 +104,7 @@ public abstract class PantallaBase extends ScreenAdapter {
      */
     @Override
     public void dispose() {
-        stage.dispose();
-        skin.dispose();
+        if (stage != null) stage.dispose();
+        if (skin != null) skin.dispose();
     }
 }
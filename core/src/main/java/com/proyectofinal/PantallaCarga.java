@@ -0,0 +1,164 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pantalla de carga entre la seleccion de personaje y DungeonScreen.
+ *
+ * Encola en el AssetManager todo lo que necesitan la clase elegida y el mapa,
+ * tomando las rutas del manifiesto assets.txt que genera generateAssetList:
+ * - los sprites del atlas se cargan como Pixmap (el PNG se decodifica en los
+ *   hilos del AssetManager) y luego se empaquetan en el AtlasJuego;
+ * - los arboles y piedras se cargan como Texture (decodificacion en segundo
+ *   plano, solo la subida a la GPU ocurre en el hilo de render).
+ *
+ * Cada frame trabaja como maximo MS_POR_FRAME milisegundos, de modo que la
+ * interfaz sigue respondiendo y la barra de progreso avanza.
+ */
+public class PantallaCarga extends PantallaBase {
+
+    // Presupuesto de trabajo por frame en el hilo de render
+    private static final int MS_POR_FRAME = 12;
+
+    // Parte de la barra que corresponde a la decodificacion; el resto es el empaquetado
+    private static final float PESO_DECODIFICACION = 0.8f;
+
+    private final RPGGame juego;
+    private final String claseJugador;
+    private final AssetManager assets;
+
+    // Sprites que se empaquetaran en el atlas cuando terminen de decodificarse
+    private final List<String> rutasAtlas = new ArrayList<>();
+    private int empaquetados = 0;
+    private boolean decodificado = false;
+    private boolean terminado = false;
+
+    private ProgressBar barra;
+    private Label estado;
+
+    private final TelemetriaCarga telemetria = new TelemetriaCarga("PantallaCarga");
+
+    /**
+     * @param juego juego principal (dueño del AssetManager)
+     * @param claseJugador clase elegida: "Caballero", "Mago" o "Arquero"
+     */
+    public PantallaCarga(RPGGame juego, String claseJugador) {
+        this.juego = juego;
+        this.claseJugador = claseJugador;
+        this.assets = juego.getAssets();
+    }
+
+    /**
+     * Arma la barra de progreso y encola los assets.
+     */
+    @Override
+    protected void initUI() {
+        Table tabla = crearTabla();
+
+        estado = new Label("Cargando...", skin);
+        tabla.add(estado).pad(10f);
+        tabla.row();
+
+        barra = new ProgressBar(0f, 1f, 0.01f, false, skin);
+        barra.setAnimateDuration(0.1f);
+        tabla.add(barra).width(300f).pad(10f);
+
+        encolarAssets();
+    }
+
+    /** Encola solo lo que todavia no esta en el atlas ni en el AssetManager. */
+    private void encolarAssets() {
+        telemetria.reiniciarMarca();
+
+        for (String ruta : AtlasJuego.rutasNecesarias(claseJugador)) {
+            if (!AtlasJuego.contiene(ruta)) {
+                assets.load(ruta, Pixmap.class);
+                rutasAtlas.add(ruta);
+            }
+        }
+
+        int texturas = 0;
+        for (String ruta : AtlasJuego.rutasDelManifiesto(MapaProcedural.PREFIJO_ARBOL, MapaProcedural.RUTA_PIEDRA)) {
+            if (!assets.isLoaded(ruta)) {
+                assets.load(ruta, Texture.class);
+                texturas++;
+            }
+        }
+
+        System.out.println("Carga de " + claseJugador + ": " + rutasAtlas.size() + " sprites para el atlas, "
+            + texturas + " texturas del mapa");
+        telemetria.fase("encolar");
+    }
+
+    @Override
+    public void render(float delta) {
+        if (!terminado) {
+            avanzarCarga();
+        }
+        if (terminado) {
+            // La pantalla se libera al final del frame (RPGGame)
+            juego.setScreen(new DungeonScreen(juego, claseJugador));
+            return;
+        }
+
+        barra.setValue(getProgreso());
+        super.render(delta);
+    }
+
+    /**
+     * Un paso de la carga, acotado a MS_POR_FRAME: primero la decodificacion en el
+     * AssetManager, despues el empaquetado y por ultimo la subida del atlas.
+     */
+    private void avanzarCarga() {
+        if (!decodificado) {
+            try {
+                if (!assets.update(MS_POR_FRAME)) {
+                    estado.setText("Cargando imagenes...");
+                    return;
+                }
+            } catch (GdxRuntimeException e) {
+                // El asset que fallo se descarta; el resto sigue cargando y
+                // AtlasJuego.region() lo intentara cargar por separado
+                System.err.println("Error al cargar un asset: " + e.getMessage());
+                return;
+            }
+            decodificado = true;
+            telemetria.fase("decodificacion");
+            estado.setText("Preparando sprites...");
+        }
+
+        long limite = TimeUtils.millis() + MS_POR_FRAME;
+        while (empaquetados < rutasAtlas.size() && TimeUtils.millis() < limite) {
+            String ruta = rutasAtlas.get(empaquetados++);
+            if (assets.isLoaded(ruta)) {
+                AtlasJuego.empaquetar(ruta, assets.get(ruta, Pixmap.class));
+                // El atlas ya copio la imagen: el Pixmap no se necesita mas
+                assets.unload(ruta);
+            }
+        }
+        if (empaquetados < rutasAtlas.size()) return;
+        telemetria.fase("empaquetado");
+
+        AtlasJuego.actualizarPaginas();
+        telemetria.fase("subida atlas");
+        telemetria.reportarCarga();
+        terminado = true;
+    }
+
+    /** @return progreso total entre 0 y 1 */
+    private float getProgreso() {
+        float decodificacion = decodificado ? 1f : assets.getProgress();
+        float empaquetado = rutasAtlas.isEmpty() ? 1f : (float) empaquetados / rutasAtlas.size();
+        return decodificacion * PESO_DECODIFICACION + empaquetado * (1f - PESO_DECODIFICACION);
+    }
+}
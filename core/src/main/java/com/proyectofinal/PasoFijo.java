@@ -0,0 +1,106 @@
+package com.proyectofinal;
+
+/**
+ * Acumulador de paso fijo para la simulacion.
+ * El render le pasa el delta variable de cada frame y obtiene cuantos ticks de
+ * duracion fija hay que simular; lo que sobra queda acumulado para el frame
+ * siguiente y getAlpha() indica cuanto se avanzo hacia el proximo tick, para
+ * interpolar las posiciones dibujadas.
+ *
+ * La frecuencia por defecto es 60 Hz y se puede bajar en equipos lentos con
+ * -Drpg.logica.hz=HZ: el juego se mueve a la misma velocidad porque cada tick
+ * recibe su duracion real, solo cambia cuantos ticks se simulan por segundo.
+ */
+public class PasoFijo {
+
+    public static final String PROPIEDAD_HZ = "rpg.logica.hz";
+    public static final float HZ_DEFECTO = 60f;
+    private static final float HZ_MINIMO = 10f;
+    private static final float HZ_MAXIMO = 240f;
+
+    // Ticks maximos por frame: si el frame tardo mas, el resto se descarta
+    // (el juego se ralentiza en lugar de entrar en una espiral de ticks)
+    private static final int MAX_TICKS_POR_FRAME = 5;
+
+    // Delta maximo que se acepta de un frame (pausas del SO, arrastrar la ventana)
+    private static final float MAX_DELTA = 0.25f;
+
+    private final float hz;
+    private final float paso;
+    private float acumulado = 0f;
+
+    // Estadisticas
+    private int ticksUltimoFrame;
+    private long ticksDescartados;
+
+    /**
+     * @param hz ticks de simulacion por segundo
+     */
+    public PasoFijo(float hz) {
+        this.hz = Math.max(HZ_MINIMO, Math.min(HZ_MAXIMO, hz));
+        this.paso = 1f / this.hz;
+    }
+
+    /**
+     * Crea el acumulador con la frecuencia de la propiedad del sistema, o 60 Hz si no esta.
+     */
+    public static PasoFijo desdePropiedades() {
+        String valor = System.getProperty(PROPIEDAD_HZ);
+        if (valor == null) return new PasoFijo(HZ_DEFECTO);
+
+        try {
+            PasoFijo pasoFijo = new PasoFijo(Float.parseFloat(valor.trim()));
+            System.out.println("Logica a " + pasoFijo.getHz() + " Hz");
+            return pasoFijo;
+        } catch (NumberFormatException e) {
+            System.err.println("Valor invalido para " + PROPIEDAD_HZ + ": " + valor);
+            return new PasoFijo(HZ_DEFECTO);
+        }
+    }
+
+    /**
+     * Suma el tiempo del frame al acumulador.
+     * @param delta duracion del frame en segundos
+     * @return cantidad de ticks de getPaso() segundos a simular en este frame
+     */
+    public int avanzar(float delta) {
+        acumulado += Math.max(0f, Math.min(delta, MAX_DELTA));
+
+        int ticks = (int) (acumulado / paso);
+        if (ticks > MAX_TICKS_POR_FRAME) {
+            ticksDescartados += ticks - MAX_TICKS_POR_FRAME;
+            ticks = MAX_TICKS_POR_FRAME;
+            acumulado = acumulado % paso;
+        } else {
+            acumulado = Math.max(0f, acumulado - ticks * paso);
+        }
+
+        ticksUltimoFrame = ticks;
+        return ticks;
+    }
+
+    /**
+     * @return fraccion (0 a 1) del siguiente tick ya transcurrida, para interpolar
+     *         entre el estado anterior y el actual
+     */
+    public float getAlpha() {
+        return Math.min(1f, acumulado / paso);
+    }
+
+    /** Interpolacion lineal entre la posicion del tick anterior y la del actual. */
+    public static float interpolar(float previo, float actual, float alpha) {
+        return previo + (actual - previo) * alpha;
+    }
+
+    /** @return duracion de cada tick en segundos */
+    public float getPaso() { return paso; }
+
+    /** @return ticks de simulacion por segundo */
+    public float getHz() { return hz; }
+
+    /** @return ticks simulados en el ultimo frame */
+    public int getTicksUltimoFrame() { return ticksUltimoFrame; }
+
+    /** @return ticks que no se simularon por frames demasiado largos */
+    public long getTicksDescartados() { return ticksDescartados; }
+}
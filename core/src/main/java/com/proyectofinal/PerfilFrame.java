@@ -0,0 +1,120 @@
+package com.proyectofinal;
+
+import java.util.Arrays;
+
+/**
+ * Instrumentacion ligera por etapas del frame con System.nanoTime.
+ *
+ * Las etapas se miden "por vueltas": marcar(etapa) atribuye a esa etapa el tiempo
+ * transcurrido desde la marca anterior, asi que basta con una llamada al final de
+ * cada etapa. Cada frame se guarda en un buffer circular por etapa para calcular
+ * promedio movil y percentil 99. No depende de Gdx, de modo que MundoJuego puede
+ * usarlo tambien sin graficos, y no crea objetos despues de construido.
+ */
+public class PerfilFrame {
+
+    // Etapas de la simulacion (MundoJuego)
+    public static final int ENTRADA = 0;
+    public static final int OLEADAS = 1;
+    public static final int ENEMIGOS = 2;
+    public static final int POCIONES = 3;
+    public static final int PROYECTILES = 4;
+    public static final int TEMPORIZADORES = 5;
+    // Etapas del dibujo (DungeonScreen)
+    public static final int CAMARA = 6;
+    public static final int TERRENO = 7;
+    public static final int ENCOLADO = 8;
+    public static final int DIBUJO_MUNDO = 9;
+    public static final int HUD = 10;
+    // Suma de todas las etapas del frame
+    public static final int TOTAL = 11;
+
+    public static final int ETAPAS = 12;
+
+    private static final String[] NOMBRES = {
+        "Entrada", "Oleadas", "Enemigos", "Pociones", "Proyectiles", "Temporizadores",
+        "Camara", "Terreno", "Encolado", "Orden y dibujo", "HUD", "Total"
+    };
+
+    // Cantidad de frames que recuerda cada etapa (4 segundos a 60 fps)
+    public static final int MUESTRAS = 240;
+
+    private final long[][] muestras = new long[ETAPAS][MUESTRAS];
+    private final long[] frameActual = new long[ETAPAS];
+    private final long[] ordenados = new long[MUESTRAS];
+    private final float[] promedioMs = new float[ETAPAS];
+    private final float[] p99Ms = new float[ETAPAS];
+
+    private long marca;
+    private int indice;
+    private int cantidad;
+
+    /** Comienza un frame: limpia los acumulados y toma la primera marca. */
+    public void inicioFrame() {
+        Arrays.fill(frameActual, 0L);
+        marca = System.nanoTime();
+    }
+
+    /**
+     * Cierra la etapa indicada: le suma el tiempo transcurrido desde la marca anterior.
+     * Una etapa puede marcarse varias veces en el mismo frame y se acumula.
+     */
+    public void marcar(int etapa) {
+        long ahora = System.nanoTime();
+        frameActual[etapa] += ahora - marca;
+        marca = ahora;
+    }
+
+    /**
+     * Descarta el tiempo transcurrido desde la marca anterior (trabajo que no
+     * pertenece a ninguna etapa, como la propia instrumentacion).
+     */
+    public void saltar() {
+        marca = System.nanoTime();
+    }
+
+    /** Guarda el frame en los buffers circulares. */
+    public void finFrame() {
+        long total = 0;
+        for (int etapa = 0; etapa < TOTAL; etapa++) {
+            total += frameActual[etapa];
+            muestras[etapa][indice] = frameActual[etapa];
+        }
+        muestras[TOTAL][indice] = total;
+
+        indice = (indice + 1) % MUESTRAS;
+        if (cantidad < MUESTRAS) cantidad++;
+    }
+
+    /**
+     * Recalcula promedio y p99 de cada etapa sobre la ventana actual. Ordena una
+     * copia de las muestras, por eso conviene llamarlo cada varios frames y no en todos.
+     */
+    public void calcularEstadisticas() {
+        if (cantidad == 0) return;
+        int posP99 = Math.min(cantidad - 1, (int) Math.ceil(cantidad * 0.99) - 1);
+
+        for (int etapa = 0; etapa < ETAPAS; etapa++) {
+            long suma = 0;
+            for (int i = 0; i < cantidad; i++) {
+                long valor = muestras[etapa][i];
+                ordenados[i] = valor;
+                suma += valor;
+            }
+            Arrays.sort(ordenados, 0, cantidad);
+            promedioMs[etapa] = suma / (float) cantidad / 1_000_000f;
+            p99Ms[etapa] = ordenados[posP99] / 1_000_000f;
+        }
+    }
+
+    public static String getNombre(int etapa) { return NOMBRES[etapa]; }
+
+    /** Promedio movil de la etapa en milisegundos (segun el ultimo calcularEstadisticas). */
+    public float getPromedioMs(int etapa) { return promedioMs[etapa]; }
+
+    /** Percentil 99 de la etapa en milisegundos (segun el ultimo calcularEstadisticas). */
+    public float getP99Ms(int etapa) { return p99Ms[etapa]; }
+
+    /** Cantidad de frames guardados en la ventana. */
+    public int getCantidadMuestras() { return cantidad; }
+}
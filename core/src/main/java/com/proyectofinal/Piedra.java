@@ -1,6 +1,5 @@
 package com.proyectofinal;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 
 /**
@@ -9,12 +8,18 @@ import com.badlogic.gdx.math.Rectangle;
  */
 public class Piedra extends ElementoDeMapa {
 
+    // Tamaño de la imagen Mapa/Piedras/piedra_Pasto.png
+    public static final float ANCHO = 64f;
+    public static final float ALTO = 64f;
+
     /**
-     * Constructor que recibe la textura de la piedra.
-     * @param texture textura visual que se renderizara en el mapa.
+     * Constructor que recibe la ruta de la textura de la piedra.
+     * @param rutaTextura imagen que se renderizara en el mapa.
      */
-    public Piedra(Texture texture) {
-        this.texture = texture;
+    public Piedra(String rutaTextura) {
+        this.rutaTextura = rutaTextura;
+        this.ancho = ANCHO;
+        this.alto = ALTO;
         this.collider = new Rectangle();  // Inicializamos el collider
     }
 
@@ -33,6 +38,15 @@ public class Piedra extends ElementoDeMapa {
         this.collider.set(0, 0, 0, 0);
     }
 
+    /**
+     * La piedra esta en el suelo: se ordena por su borde superior para que
+     * cualquier entidad que pase por encima se dibuje sobre ella.
+     */
+    @Override
+    public void encolar(ColaRender cola) {
+        if (region != null) cola.agregar(region, posX, posY, ancho, alto, posY + alto, 1f);
+    }
+
     /**
      * Devuelve el collider, que en este caso es un rectangulo vacio.
      * @return Rectangle sin colision real
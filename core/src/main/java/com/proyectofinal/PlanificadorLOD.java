@@ -0,0 +1,134 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Nivel de detalle (LOD) de la actualizacion de enemigos segun su distancia a la camara.
+ *
+ * CERCA: dentro de la vista mas un margen; se actualizan en cada tick con IA y animacion.
+ * MEDIO: hasta DISTANCIA_MEDIO del centro de la vista; acumulan el delta y se
+ *        actualizan completos cada INTERVALO_MEDIO ticks, repartidos por fase
+ *        para que no coincidan todos en el mismo tick.
+ * LEJOS: solo avanzan en linea recta hacia el jugador, sin campo de flujo,
+ *        maquina de estados ni animacion.
+ *
+ * Los enemigos muriendo, golpeados o atacando siempre se actualizan completos
+ * (a lo sumo con el intervalo del nivel MEDIO) para que terminen su animacion.
+ * Lleva la cuenta de enemigos por nivel y de actualizaciones completas por tick.
+ */
+public class PlanificadorLOD {
+
+    // Niveles
+    public static final int CERCA = 0;
+    public static final int MEDIO = 1;
+    public static final int LEJOS = 2;
+    public static final int NIVELES = 3;
+
+    private static final String[] NOMBRES = { "Cerca", "Medio", "Lejos" };
+
+    // Margen alrededor de la vista que todavia cuenta como cerca
+    private static final float MARGEN_CERCA = 256f;
+
+    // Distancia al centro de la vista hasta la que un enemigo es de nivel medio
+    private static final float DISTANCIA_MEDIO = 1200f;
+
+    // Cada cuantos ticks se actualiza completo un enemigo de nivel medio
+    private static final int INTERVALO_MEDIO = 4;
+
+    // Area cercana y centro de la vista del tick actual
+    private float cercaMinX, cercaMinY, cercaMaxX, cercaMaxY;
+    private float centroX, centroY;
+
+    private long tick;
+    private int siguienteFase;
+
+    private final int[] enemigosPorNivel = new int[NIVELES];
+    private int actualizacionesCompletas;
+
+    /**
+     * Comienza un tick: fija el area cercana a partir de lo que ve la camara
+     * y reinicia los contadores.
+     * @param areaVisible area visible del mundo
+     */
+    public void comenzarTick(Rectangle areaVisible) {
+        tick++;
+        cercaMinX = areaVisible.x - MARGEN_CERCA;
+        cercaMinY = areaVisible.y - MARGEN_CERCA;
+        cercaMaxX = areaVisible.x + areaVisible.width + MARGEN_CERCA;
+        cercaMaxY = areaVisible.y + areaVisible.height + MARGEN_CERCA;
+        centroX = areaVisible.x + areaVisible.width * 0.5f;
+        centroY = areaVisible.y + areaVisible.height * 0.5f;
+
+        for (int n = 0; n < NIVELES; n++) enemigosPorNivel[n] = 0;
+        actualizacionesCompletas = 0;
+    }
+
+    /**
+     * Nivel de detalle de un enemigo en el tick actual.
+     */
+    public int nivel(Enemigo e) {
+        float ex = e.getX() + e.getWidth() * 0.5f;
+        float ey = e.getY() + e.getHeight() * 0.5f;
+        if (ex >= cercaMinX && ex <= cercaMaxX && ey >= cercaMinY && ey <= cercaMaxY) return CERCA;
+
+        float dx = ex - centroX;
+        float dy = ey - centroY;
+        if (dx * dx + dy * dy <= DISTANCIA_MEDIO * DISTANCIA_MEDIO) return MEDIO;
+        return LEJOS;
+    }
+
+    /**
+     * Asigna la fase de nivel medio a un enemigo nuevo. Se llama al agregarlo al
+     * mundo, para que la fase no dependa del orden ni del hilo en que se actualiza.
+     */
+    public void registrar(Enemigo e) {
+        if (e.faseLOD < 0) e.faseLOD = siguienteFase++ % INTERVALO_MEDIO;
+    }
+
+    /**
+     * Actualiza un enemigo segun su nivel de detalle.
+     * @param delta tiempo del tick en segundos
+     */
+    public void actualizar(Enemigo e, float delta, float playerX, float playerY) {
+        registrar(e);
+        int nivel = nivel(e);
+        contar(nivel, 1, ejecutar(e, nivel, delta, playerX, playerY) ? 1 : 0);
+    }
+
+    /**
+     * Avanza un enemigo con el nivel ya calculado. Solo modifica al enemigo, asi
+     * que se puede llamar desde varios hilos para enemigos distintos.
+     * @return true si se hizo la actualizacion completa (IA y animacion)
+     */
+    boolean ejecutar(Enemigo e, int nivel, float delta, float playerX, float playerY) {
+        if (nivel == LEJOS && e.puedeActualizarseLejos()) {
+            // El delta pendiente de ticks de nivel medio se consume aqui
+            e.actualizarLejos(delta + e.deltaPendiente, playerX, playerY);
+            e.deltaPendiente = 0f;
+            return false;
+        }
+
+        if (nivel == CERCA || (tick + e.faseLOD) % INTERVALO_MEDIO == 0) {
+            e.update(delta + e.deltaPendiente, playerX, playerY);
+            e.deltaPendiente = 0f;
+            return true;
+        }
+
+        e.deltaPendiente += delta;
+        return false;
+    }
+
+    /** Suma enemigos al conteo del tick (los hilos de TrabajosEnemigos cuentan aparte). */
+    void contar(int nivel, int enemigos, int completas) {
+        enemigosPorNivel[nivel] += enemigos;
+        actualizacionesCompletas += completas;
+    }
+
+    public static String getNombre(int nivel) { return NOMBRES[nivel]; }
+
+    /** @return enemigos en el nivel durante el ultimo tick */
+    public int getEnemigos(int nivel) { return enemigosPorNivel[nivel]; }
+
+    /** @return enemigos con IA y animacion completas en el ultimo tick */
+    public int getActualizacionesCompletas() { return actualizacionesCompletas; }
+}
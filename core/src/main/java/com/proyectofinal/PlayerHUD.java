@@ -1,22 +1,52 @@
 package com.proyectofinal;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Disposable;
 
 /**
  * Clase responsable de mostrar la informacion del jugador en pantalla.
  * Se ubica en la esquina superior izquierda y presenta clase, vida,
  * y recursos especiales como flechas, mana o escudo.
+ *
+ * El texto solo se vuelve a armar y medir cuando cambia alguno de los valores
+ * mostrados; el resto de los frames se dibuja el GlyphLayout guardado. El fondo
+ * es un NinePatch cuya region esta en el AtlasJuego, asi que se dibuja dentro
+ * del mismo batch sin vaciarlo ni crear objetos.
  */
 public class PlayerHUD implements Disposable {
+
+    // Clave de la region del fondo dentro del atlas (se genera, no es un archivo)
+    private static final String RUTA_FONDO = "HUD/fondo";
+    private static final int TAMANO_FONDO = 12;
+    private static final int BORDE_FONDO = 4;
+
+    // Valor guardado cuando un dato no aplica a la clase (o la rafaga no esta activa)
+    private static final int SIN_VALOR = Integer.MIN_VALUE;
+
     private BitmapFont font;
     private final Jugador jugador;
-    private GlyphLayout layout;
+    private final GlyphLayout layout;
+    private final NinePatch fondo;
     private float padding = 10f;
-    private com.badlogic.gdx.graphics.glutils.ShapeRenderer shapeRenderer;
+
+    // Texto reutilizado para no generar basura
+    private final StringBuilder info = new StringBuilder();
+
+    // Valores con los que se armo el texto actual
+    private boolean armado = false;
+    private int vidaMostrada, vidaMaximaMostrada;
+    private int recursoMostrado, recursoMaximoMostrado;
+    private int rafagaMostrada;   // decimas de segundo restantes
+
+    // Cantidad de veces que se volvio a medir el texto (para depuracion)
+    private int rearmados = 0;
 
     public PlayerHUD(Jugador jugador) {
         this.jugador = jugador;
@@ -26,79 +56,136 @@ public class PlayerHUD implements Disposable {
         font.setColor(Color.WHITE);
         font.getData().setScale(1.8f); // Aumentar tamaño de letra
 
-        // Objeto para medir el texto
+        // Objeto con el texto ya medido
         layout = new GlyphLayout();
 
-        // Inicializar shapeRenderer para dibujar el fondo
-        shapeRenderer = new com.badlogic.gdx.graphics.glutils.ShapeRenderer();
+        // Fondo semitransparente con borde, empaquetado en el atlas
+        fondo = crearFondo();
+    }
+
+    /**
+     * Genera la imagen del fondo y la agrega al atlas la primera vez.
+     * @return NinePatch del fondo, o null si no hay graficos
+     */
+    private static NinePatch crearFondo() {
+        if (!AtlasJuego.hayGraficos()) return null;
+
+        if (!AtlasJuego.contiene(RUTA_FONDO)) {
+            Pixmap pixmap = new Pixmap(TAMANO_FONDO, TAMANO_FONDO, Pixmap.Format.RGBA8888);
+            pixmap.setBlending(Pixmap.Blending.None);
+            pixmap.setColor(0f, 0f, 0f, 0.6f);
+            pixmap.fill();
+            pixmap.setColor(1f, 1f, 1f, 0.35f);
+            pixmap.drawRectangle(0, 0, TAMANO_FONDO, TAMANO_FONDO);
+            AtlasJuego.empaquetar(RUTA_FONDO, pixmap);
+            pixmap.dispose();
+            AtlasJuego.actualizarPaginas();
+        }
+
+        TextureRegion region = AtlasJuego.region(RUTA_FONDO);
+        return new NinePatch(region, BORDE_FONDO, BORDE_FONDO, BORDE_FONDO, BORDE_FONDO);
     }
 
     /**
      * Renderiza el HUD del jugador con clase, vida y recursos especiales.
-     * @param batch SpriteBatch donde se dibuja el texto
+     * El batch debe estar iniciado con una matriz de pantalla; no se termina ni
+     * se cambia su color.
+     * @param batch SpriteBatch donde se dibuja el fondo y el texto
      */
     public void render(SpriteBatch batch) {
         if (batch == null || jugador == null) return;
 
-        // Construir la informacion a mostrar
-        StringBuilder info = new StringBuilder();
+        if (cambiaronValores()) {
+            armarTexto();
+        }
+
+        // Calcular posicion para dibujar (esquina superior izquierda)
+        float textY = Gdx.graphics.getHeight() - padding;
+        float bgWidth = layout.width + padding * 2;
+        float bgHeight = layout.height + padding * 2;
+        float bgY = textY + padding - layout.height;
+
+        if (fondo != null) fondo.draw(batch, 0, bgY, bgWidth, bgHeight);
+
+        // Dibujar el texto ya medido en pantalla
+        font.draw(batch, layout, padding, textY);
+    }
+
+    /**
+     * Compara los valores actuales del jugador con los mostrados y guarda los nuevos.
+     * @return true si hay que volver a armar el texto
+     */
+    private boolean cambiaronValores() {
+        int vida = jugador.getVida();
+        int vidaMaxima = jugador.getVidaMaxima();
+        int recurso = SIN_VALOR;
+        int recursoMaximo = SIN_VALOR;
+        int rafaga = SIN_VALOR;
+
+        if (jugador instanceof Arquero) {
+            Arquero arquero = (Arquero) jugador;
+            recurso = arquero.getFlechas();
+            if (arquero.estaModoIlimitado()) {
+                rafaga = Math.round(Math.max(0f, arquero.getTiempoIlimitadoRestante()) * 10f);
+            }
+        } else if (jugador instanceof Mago) {
+            recurso = ((Mago) jugador).getMana();
+        } else if (jugador instanceof Caballero) {
+            Caballero caballero = (Caballero) jugador;
+            recurso = caballero.getEscudo();
+            recursoMaximo = caballero.getEscudoMaximo();
+        }
+
+        if (armado && vida == vidaMostrada && vidaMaxima == vidaMaximaMostrada
+            && recurso == recursoMostrado && recursoMaximo == recursoMaximoMostrado
+            && rafaga == rafagaMostrada) {
+            return false;
+        }
+
+        armado = true;
+        vidaMostrada = vida;
+        vidaMaximaMostrada = vidaMaxima;
+        recursoMostrado = recurso;
+        recursoMaximoMostrado = recursoMaximo;
+        rafagaMostrada = rafaga;
+        return true;
+    }
+
+    /** Arma el texto con los valores guardados y lo mide una sola vez. */
+    private void armarTexto() {
+        info.setLength(0);
         info.append("Clase: ").append(determinarClase()).append("\n");
         info.append("Vida: ")
-            .append(jugador.getVida())
+            .append(vidaMostrada)
             .append("/")
-            .append(jugador.getVidaMaxima())
+            .append(vidaMaximaMostrada)
             .append("\n");
 
         // Agregar datos segun la clase del jugador
         if (jugador instanceof Arquero) {
-            Arquero arquero = (Arquero) jugador;
-            info.append("Flechas: ").append(arquero.getFlechas()).append("\n");
+            info.append("Flechas: ").append(recursoMostrado).append("\n");
 
             // Si tiene modo rafaga activado, mostrar tiempo restante
-            if (arquero.estaModoIlimitado()) {
-                info.append("Rafaga: ").append(String.format("%.1f", arquero.getTiempoIlimitadoRestante())).append("s");
+            if (rafagaMostrada != SIN_VALOR) {
+                info.append("Rafaga: ")
+                    .append(rafagaMostrada / 10).append('.').append(rafagaMostrada % 10)
+                    .append("s");
             }
         } else if (jugador instanceof Mago) {
-            Mago mago = (Mago) jugador;
-            info.append("Mana: ").append(mago.getMana()).append("\n");
+            info.append("Mana: ").append(recursoMostrado).append("\n");
         } else if (jugador instanceof Caballero) {
-            Caballero caballero = (Caballero) jugador;
-            info.append("Escudo: ").append(caballero.getEscudo()).append("\n");
+            info.append("Escudo: ").append(recursoMostrado)
+                .append("/").append(recursoMaximoMostrado).append("\n");
         }
 
         // Medir el tamaño del texto
-        layout.setText(font, info.toString());
-
-        // Calcular posicion para dibujar (esquina superior izquierda)
-        float textY = com.badlogic.gdx.Gdx.graphics.getHeight() - padding;
-        float bgWidth = layout.width + padding * 2;
-        float bgHeight = layout.height + padding * 2;
-        float bgY = textY + padding - layout.height;
+        layout.setText(font, info);
+        rearmados++;
+    }
 
-        // Guardar color original del batch
-        com.badlogic.gdx.graphics.Color oldColor = batch.getColor().cpy();
-
-        // Terminar el batch para poder dibujar el fondo con shapeRenderer
-        batch.setColor(0, 0, 0, 0.6f);
-        batch.end();
-
-        // Configurar shapeRenderer para dibujar en pantalla completa
-        shapeRenderer.setProjectionMatrix(new com.badlogic.gdx.math.Matrix4().setToOrtho2D(
-            0, 0,
-            com.badlogic.gdx.Gdx.graphics.getWidth(),
-            com.badlogic.gdx.Gdx.graphics.getHeight()
-        ));
-        shapeRenderer.begin(com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0, 0, 0, 0.6f);
-        shapeRenderer.rect(0, bgY, bgWidth, bgHeight);
-        shapeRenderer.end();
-
-        // Volver a comenzar el batch
-        batch.begin();
-        batch.setColor(oldColor);
-
-        // Dibujar el texto en pantalla
-        font.draw(batch, info.toString(), padding, textY);
+    /** @return veces que se armo y midio el texto desde que se creo el HUD */
+    public int getRearmados() {
+        return rearmados;
     }
 
     /**
@@ -108,9 +195,9 @@ public class PlayerHUD implements Disposable {
     private String determinarClase() {
         if (jugador instanceof Arquero) {
             return "Arquero";
-        } else if (jugador.getClass().getSimpleName().equals("Mago")) {
+        } else if (jugador instanceof Mago) {
             return "Mago";
-        } else if (jugador.getClass().getSimpleName().equals("Caballero")) {
+        } else if (jugador instanceof Caballero) {
             return "Caballero";
         } else {
             return "Desconocido";
@@ -118,7 +205,7 @@ public class PlayerHUD implements Disposable {
     }
 
     /**
-     * Libera los recursos usados por el HUD.
+     * Libera los recursos usados por el HUD. La region del fondo pertenece al AtlasJuego.
      */
     @Override
     public void dispose() {
@@ -126,9 +213,5 @@ public class PlayerHUD implements Disposable {
             font.dispose();
             font = null;
         }
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-            shapeRenderer = null;
-        }
     }
 }
@@ -1,6 +1,5 @@
 package com.proyectofinal;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -14,10 +13,11 @@ import com.badlogic.gdx.math.MathUtils;
  */
 public class PocionActor extends Image {
     private final Pocion pocion;               // Referencia a la pocion logica
-    private Texture texture;                   // Textura visual de la pocion
+    private TextureRegion texture;             // Region visual de la pocion (del atlas)
     private Rectangle hitbox;                  // Hitbox para colisiones con el jugador
 
     private static final float TIEMPO_VIDA_MAXIMO = 10f; // Tiempo que dura en pantalla
+    private static final float TAMANO_SIN_TEXTURA = 32f; // Tamaño cuando no hay region (sin graficos)
     private float tiempoVida = TIEMPO_VIDA_MAXIMO;
     private float tiempoTranscurrido = 0f;
 
@@ -27,8 +27,8 @@ public class PocionActor extends Image {
     /**
      * Constructor simple con tamaño por defecto.
      */
-    public PocionActor(Pocion pocion, Texture texture) {
-        super(new TextureRegionDrawable(new TextureRegion(texture)));
+    public PocionActor(Pocion pocion, TextureRegion texture) {
+        super(texture != null ? new TextureRegionDrawable(texture) : null);
         this.pocion = pocion;
         this.texture = texture;
         setSize(40, 40); // Tamaño visual
@@ -41,12 +41,17 @@ public class PocionActor extends Image {
     /**
      * Constructor completo para ubicar la pocion con escala personalizada.
      */
-    public PocionActor(Pocion pocion, Texture texture, float x, float y, float escala) {
-        super(new TextureRegionDrawable(new TextureRegion(texture)));
+    public PocionActor(Pocion pocion, TextureRegion texture, float x, float y, float escala) {
+        super(texture != null ? new TextureRegionDrawable(texture) : null);
         this.pocion = pocion;
         this.texture = texture;
         setPosition(x, y);
-        setSize(texture.getWidth() * escala, texture.getHeight() * escala);
+        // Sin graficos (simulacion) no hay region: se usa el tamaño de los sprites de pociones
+        if (texture != null) {
+            setSize(texture.getRegionWidth() * escala, texture.getRegionHeight() * escala);
+        } else {
+            setSize(TAMANO_SIN_TEXTURA * escala, TAMANO_SIN_TEXTURA * escala);
+        }
 
         // Hitbox mas pequeno
         float hitboxScale = 0.8f;
@@ -97,6 +102,25 @@ public class PocionActor extends Image {
     public void draw(Batch batch, float parentAlpha) {
         if (batch == null || texture == null || recogida || debeEliminarse) return;
 
+        float alphaFinal = calcularAlpha(parentAlpha);
+        batch.setColor(1, 1, 1, alphaFinal);
+        super.draw(batch, alphaFinal);
+        batch.setColor(1, 1, 1, 1); // Restaurar color
+    }
+
+    /**
+     * Encola la pocion en la cola de dibujo del mundo con su transparencia y
+     * su balanceo actuales (la rotacion de act(), como la aplicaba Image.draw).
+     * @return true si se encolo
+     */
+    public boolean encolar(ColaRender cola) {
+        if (texture == null || recogida || debeEliminarse) return false;
+        cola.agregar(texture, getX(), getY(), getWidth(), getHeight(), getY(), calcularAlpha(1f),
+            getOriginX(), getOriginY(), getRotation());
+        return true;
+    }
+
+    private float calcularAlpha(float parentAlpha) {
         // Parpadeo en los ultimos segundos
         float alpha = parentAlpha;
         if (tiempoVida < 3f) {
@@ -105,11 +129,7 @@ public class PocionActor extends Image {
 
         // Reduccion progresiva de visibilidad
         float factorTiempo = tiempoVida / TIEMPO_VIDA_MAXIMO;
-        float alphaFinal = alpha * Math.max(0.5f, factorTiempo); // Nunca menor a 0.5
-
-        batch.setColor(1, 1, 1, alphaFinal);
-        super.draw(batch, alphaFinal);
-        batch.setColor(1, 1, 1, 1); // Restaurar color
+        return alpha * Math.max(0.5f, factorTiempo); // Nunca menor a 0.5
     }
 
     /**
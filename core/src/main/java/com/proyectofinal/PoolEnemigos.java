@@ -0,0 +1,103 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reserva de enemigos de un mismo tipo para reutilizarlos entre oleadas.
+ * Los enemigos que terminan su animacion de muerte se devuelven aqui en lugar
+ * de descartarse, y obtener() los vuelve a dejar como recien creados con
+ * Enemigo.reiniciar(); solo se construye uno nuevo (fallo) cuando no queda
+ * ninguno libre. Con precalentar() se crean durante la carga, asi que en el
+ * juego generar una oleada solo cuesta ubicar a los enemigos.
+ *
+ * Los aciertos y fallos se acumulan para ajustar el tamaño del precalentado.
+ */
+public class PoolEnemigos implements Disposable {
+
+    /** Construye un enemigo nuevo del tipo de la reserva. */
+    public interface Fabrica {
+        Enemigo crear(float x, float y);
+    }
+
+    private final Fabrica fabrica;
+    private final int capacidadMaxima;
+    private final List<Enemigo> libres;
+
+    // Estadisticas
+    private int aciertos;
+    private int fallos;
+    private int descartados;
+
+    /**
+     * @param fabrica crea los enemigos cuando no hay libres
+     * @param capacidadMaxima enemigos libres que se guardan como maximo; los
+     *                        devueltos de mas se liberan
+     */
+    public PoolEnemigos(Fabrica fabrica, int capacidadMaxima) {
+        this.fabrica = fabrica;
+        this.capacidadMaxima = capacidadMaxima;
+        this.libres = new ArrayList<>(capacidadMaxima);
+    }
+
+    /**
+     * Crea enemigos hasta tener la cantidad dada libres (sin superar la capacidad).
+     * No cuenta como fallos.
+     */
+    public void precalentar(int cantidad) {
+        int objetivo = Math.min(cantidad, capacidadMaxima);
+        while (libres.size() < objetivo) {
+            libres.add(fabrica.crear(0f, 0f));
+        }
+    }
+
+    /**
+     * Entrega un enemigo reiniciado en la posicion dada.
+     */
+    public Enemigo obtener(float x, float y) {
+        if (libres.isEmpty()) {
+            fallos++;
+            return fabrica.crear(x, y);
+        }
+        aciertos++;
+        Enemigo enemigo = libres.remove(libres.size() - 1);
+        enemigo.reiniciar(x, y);
+        return enemigo;
+    }
+
+    /**
+     * Devuelve un enemigo que ya no esta en el juego (ni en ninguna grilla).
+     */
+    public void devolver(Enemigo enemigo) {
+        if (libres.size() < capacidadMaxima) {
+            libres.add(enemigo);
+        } else {
+            descartados++;
+            enemigo.dispose();
+        }
+    }
+
+    /** @return enemigos entregados desde la reserva */
+    public int getAciertos() { return aciertos; }
+
+    /** @return enemigos que hubo que construir porque no habia libres */
+    public int getFallos() { return fallos; }
+
+    /** @return enemigos devueltos que se liberaron por superar la capacidad */
+    public int getDescartados() { return descartados; }
+
+    /** @return enemigos libres en este momento */
+    public int getLibres() { return libres.size(); }
+
+    /**
+     * Libera los enemigos libres. Las animaciones son compartidas y las libera
+     * BibliotecaAnimacionesEnemigos.
+     */
+    @Override
+    public void dispose() {
+        for (int i = 0; i < libres.size(); i++) libres.get(i).dispose();
+        libres.clear();
+    }
+}
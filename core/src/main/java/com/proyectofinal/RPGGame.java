@@ -1,6 +1,8 @@
 package com.proyectofinal;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
 
 /**
  * Clase principal del juego RPG. Extiende de Game, que permite manejar pantallas (screens) en LibGDX.
@@ -10,15 +12,69 @@ public class RPGGame extends Game {
     // Almacena la clase seleccionada por el jugador (Ejemplo: "Mago", "Caballero", "Arquero")
     private String selectedClass;
 
+    // Assets cargados en segundo plano por PantallaCarga
+    private AssetManager assets;
+
+    // Pantalla reemplazada que se libera al terminar el frame en curso
+    private Screen pantallaPorLiberar;
+
     /**
      * Metodo que se llama al iniciar el juego.
-     * Establece la pantalla inicial como el menu principal.
+     * Crea el AssetManager y establece la pantalla inicial como el menu principal.
+     * El atlas de texturas se arma en PantallaCarga al elegir la clase.
      */
     @Override
     public void create() {
+        assets = new AssetManager();
         setScreen(new MainMenuScreen(this));
     }
 
+    /**
+     * Cambia de pantalla. La anterior se oculta (hide) de inmediato y se libera
+     * (dispose) al final del frame, porque el cambio suele pedirse desde su propio
+     * render o desde un listener de su stage.
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        Screen anterior = getScreen();
+        super.setScreen(screen);
+        if (anterior != null && anterior != screen) {
+            liberarPantallaPendiente();
+            pantallaPorLiberar = anterior;
+        }
+    }
+
+    @Override
+    public void render() {
+        super.render();
+        liberarPantallaPendiente();
+    }
+
+    private void liberarPantallaPendiente() {
+        if (pantallaPorLiberar != null) {
+            pantallaPorLiberar.dispose();
+            pantallaPorLiberar = null;
+        }
+    }
+
+    /**
+     * Libera las pantallas y los recursos compartidos entre pantallas al cerrar el juego.
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        liberarPantallaPendiente();
+        if (getScreen() != null) getScreen().dispose();
+        BibliotecaAnimacionesEnemigos.dispose();
+        AtlasJuego.dispose();
+        if (assets != null) assets.dispose();
+    }
+
+    /** @return administrador de assets compartido entre pantallas */
+    public AssetManager getAssets() {
+        return assets;
+    }
+
     /**
      * Asigna la clase seleccionada por el jugador.
      * @param cls Clase elegida (por ejemplo: "Mago")
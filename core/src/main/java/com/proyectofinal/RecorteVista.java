@@ -0,0 +1,114 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Culling de la vista: calcula una vez por frame el rectangulo que ve la camara
+ * (teniendo en cuenta cam.zoom) y solo encola en la ColaRender las entidades que lo tocan.
+ * Arboles y piedras se buscan en los IndiceElementos del mapa y los enemigos en
+ * la GrillaEnemigos; pociones y proyectiles son pocos y se prueban uno a uno.
+ *
+ * Lleva la cuenta de dibujados y descartados por categoria para el OverlayPerfil.
+ */
+public class RecorteVista {
+
+    // Categorias de entidades
+    public static final int ARBOLES = 0;
+    public static final int PIEDRAS = 1;
+    public static final int ENEMIGOS = 2;
+    public static final int POCIONES = 3;
+    public static final int PROYECTILES = 4;
+    public static final int CATEGORIAS = 5;
+
+    private static final String[] NOMBRES = { "Arboles", "Piedras", "Enemigos", "Pociones", "Proyectiles" };
+
+    private final Rectangle vista = new Rectangle();
+    private final int[] dibujados = new int[CATEGORIAS];
+    private final int[] descartados = new int[CATEGORIAS];
+
+    // Temporales reutilizados en cada frame
+    private final IntArray indicesVisibles = new IntArray(256);
+    private final List<Enemigo> enemigosVisibles = new ArrayList<>();
+
+    /**
+     * Calcula el area visible a partir de la camara. Para una camara ortografica
+     * sin rotacion el frustum es el rectangulo centrado en su posicion con el
+     * tamaño del viewport multiplicado por el zoom.
+     */
+    public void actualizar(OrthographicCamera cam) {
+        float ancho = cam.viewportWidth * cam.zoom;
+        float alto = cam.viewportHeight * cam.zoom;
+        vista.set(cam.position.x - ancho * 0.5f, cam.position.y - alto * 0.5f, ancho, alto);
+
+        for (int i = 0; i < CATEGORIAS; i++) {
+            dibujados[i] = 0;
+            descartados[i] = 0;
+        }
+    }
+
+    /**
+     * Encola los elementos del mapa visibles.
+     * @param categoria ARBOLES o PIEDRAS
+     */
+    public void encolarElementos(ColaRender cola, List<? extends ElementoDeMapa> elementos,
+                                 IndiceElementos indice, int categoria) {
+        indice.consultar(vista, indicesVisibles);
+        for (int k = 0; k < indicesVisibles.size; k++) {
+            elementos.get(indicesVisibles.get(k)).encolar(cola);
+        }
+        contar(categoria, indicesVisibles.size, elementos.size());
+    }
+
+    /** Encola solo los enemigos de las celdas de la grilla que toca la vista. */
+    public void encolarEnemigos(ColaRender cola, GrillaEnemigos grilla) {
+        enemigosVisibles.clear();
+        grilla.consultarRectangulo(vista, enemigosVisibles);
+        for (int i = 0; i < enemigosVisibles.size(); i++) {
+            enemigosVisibles.get(i).encolar(cola);
+        }
+        contar(ENEMIGOS, enemigosVisibles.size(), grilla.size());
+    }
+
+    /** Encola las pociones visibles. */
+    public void encolarPociones(ColaRender cola, GestionPociones pociones) {
+        int n = pociones.encolar(cola, vista);
+        contar(POCIONES, n, pociones.getPociones().size());
+    }
+
+    /** Encola los proyectiles visibles. */
+    public void encolarProyectiles(ColaRender cola, SistemaProyectiles proyectiles) {
+        int n = proyectiles.encolar(cola, vista);
+        contar(PROYECTILES, n, proyectiles.size());
+    }
+
+    private void contar(int categoria, int visibles, int total) {
+        dibujados[categoria] += visibles;
+        descartados[categoria] += Math.max(0, total - visibles);
+    }
+
+    /** @return area visible del ultimo frame */
+    public Rectangle getVista() { return vista; }
+
+    public static String getNombre(int categoria) { return NOMBRES[categoria]; }
+    public int getDibujados(int categoria) { return dibujados[categoria]; }
+    public int getDescartados(int categoria) { return descartados[categoria]; }
+
+    /** @return entidades encoladas para dibujar en el ultimo frame */
+    public int getTotalDibujados() {
+        int total = 0;
+        for (int n : dibujados) total += n;
+        return total;
+    }
+
+    /** @return entidades descartadas por estar fuera de la vista en el ultimo frame */
+    public int getTotalDescartados() {
+        int total = 0;
+        for (int n : descartados) total += n;
+        return total;
+    }
+}
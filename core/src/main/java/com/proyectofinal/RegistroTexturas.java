@@ -0,0 +1,113 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registro de texturas con conteo de referencias, indexado por ruta de asset.
+ * Lo usan los elementos del mapa (Arbol, Piedra y futuras decoraciones): todos
+ * los que piden la misma ruta comparten una unica Texture.
+ *
+ * Si la textura ya esta en el AssetManager (precargada por PantallaCarga) se
+ * toma de ahi y la libera el AssetManager; si no, se carga del disco una sola
+ * vez y se libera cuando la ultima referencia la suelta.
+ */
+public class RegistroTexturas implements Disposable {
+
+    /** Una textura del registro y cuantos elementos la usan. */
+    private static class Entrada {
+        Texture textura;
+        int referencias;
+        boolean propia;   // true si la creo el registro (y debe liberarla)
+    }
+
+    private final AssetManager assets;
+    private final Map<String, Entrada> entradas = new HashMap<>();
+    private int solicitudes = 0;
+
+    /**
+     * @param assets administrador de assets del juego (puede ser null)
+     */
+    public RegistroTexturas(AssetManager assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * Devuelve la textura de la ruta y suma una referencia.
+     * Si falla la carga se usa una textura vacia para no interrumpir el juego.
+     * @param ruta ruta de la imagen dentro de assets
+     */
+    public Texture obtener(String ruta) {
+        solicitudes++;
+        Entrada entrada = entradas.get(ruta);
+        if (entrada == null) {
+            entrada = new Entrada();
+            if (assets != null && assets.isLoaded(ruta)) {
+                entrada.textura = assets.get(ruta, Texture.class);
+                entrada.propia = false;
+            } else {
+                entrada.textura = cargar(ruta);
+                entrada.propia = true;
+            }
+            entradas.put(ruta, entrada);
+        }
+        entrada.referencias++;
+        return entrada.textura;
+    }
+
+    private Texture cargar(String ruta) {
+        try {
+            return new Texture(ruta);
+        } catch (Exception e) {
+            System.err.println("Error al cargar " + ruta + ": " + e.getMessage());
+            return new Texture(32, 32, Pixmap.Format.RGBA8888);
+        }
+    }
+
+    /**
+     * Suelta una referencia. Cuando nadie mas usa la textura se quita del
+     * registro y, si la creo el registro, se libera.
+     * @param ruta ruta con la que se pidio la textura
+     */
+    public void liberar(String ruta) {
+        Entrada entrada = entradas.get(ruta);
+        if (entrada == null) return;
+        if (--entrada.referencias <= 0) {
+            entradas.remove(ruta);
+            if (entrada.propia) entrada.textura.dispose();
+        }
+    }
+
+    /** @return cantidad de texturas distintas que hay en memoria */
+    public int getTexturasUnicas() {
+        return entradas.size();
+    }
+
+    /** @return cantidad de veces que se pidio una textura (una por elemento) */
+    public int getSolicitudes() {
+        return solicitudes;
+    }
+
+    /** @return referencias vivas a la textura de la ruta (0 si no esta en el registro) */
+    public int getReferencias(String ruta) {
+        Entrada entrada = entradas.get(ruta);
+        return entrada != null ? entrada.referencias : 0;
+    }
+
+    /**
+     * Libera una sola vez cada textura propia que siga en el registro,
+     * sin importar cuantas referencias tenga.
+     */
+    @Override
+    public void dispose() {
+        for (Entrada entrada : entradas.values()) {
+            if (entrada.propia) entrada.textura.dispose();
+        }
+        entradas.clear();
+    }
+}
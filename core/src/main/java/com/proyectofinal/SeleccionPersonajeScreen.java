@@ -39,7 +39,7 @@ public class SeleccionPersonajeScreen extends PantallaBase {
         btnArquero.addListener(event -> {
             if (btnArquero.isPressed()) {
                 game.setSelectedClass("Arquero"); // Guardar clase seleccionada
-                game.setScreen(new DungeonScreen(game, "Arquero")); // Cambiar a la pantalla del juego
+                game.setScreen(new PantallaCarga(game, "Arquero")); // Cargar assets y pasar al juego
             }
             return false;
         });
@@ -49,7 +49,7 @@ public class SeleccionPersonajeScreen extends PantallaBase {
         btnMago.addListener(event -> {
             if (btnMago.isPressed()) {
                 game.setSelectedClass("Mago");
-                game.setScreen(new DungeonScreen(game, "Mago"));
+                game.setScreen(new PantallaCarga(game, "Mago"));
             }
             return false;
         });
@@ -59,7 +59,7 @@ public class SeleccionPersonajeScreen extends PantallaBase {
         btnCaballero.addListener(event -> {
             if (btnCaballero.isPressed()) {
                 game.setSelectedClass("Caballero");
-                game.setScreen(new DungeonScreen(game, "Caballero"));
+                game.setScreen(new PantallaCarga(game, "Caballero"));
             }
             return false;
         });
@@ -0,0 +1,130 @@
+package com.proyectofinal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueba de carga del MundoJuego sin ventana ni GPU.
+ * Avanza la simulacion con un paso fijo y una entrada simulada (camina hacia
+ * los enemigos mas cercanos, o al azar si no hay, y ataca de forma periodica) y
+ * reporta los ticks por segundo.
+ * Si el jugador muere, se genera un mundo nuevo con la siguiente semilla.
+ *
+ * Con -Drpg.asignaciones.umbral=BYTES mide la memoria que reserva cada tick
+ * (MedidorAsignaciones) y termina con error si, pasado el calentamiento, un tick
+ * supera el umbral o si reservan memoria mas de una cuarta parte de los ticks.
+ *
+ * Uso: ./gradlew core:simular -Pargs="TICKS CLASE SEMILLA"
+ */
+public final class SimulacionSinGraficos {
+
+    private static final float PASO = PasoFijo.desdePropiedades().getPaso(); // 60 Hz o -Drpg.logica.hz
+    private static final int TICKS_POR_DIRECCION = 120;  // Cada cuanto cambia de direccion
+    private static final int TICKS_POR_ATAQUE = 30;      // Cada cuanto ataca
+    private static final int TICKS_POR_REPORTE = 10000;
+    private static final int ENEMIGOS_OBJETIVO = 3;      // Enemigos cercanos hacia los que camina
+
+    // Control de asignaciones: el calentamiento cubre las primeras oleadas, ataques y pociones
+    private static final int TICKS_CALENTAMIENTO_ASIGNACIONES = 1800;
+    private static final float FRACCION_TICKS_CON_ASIGNACIONES = 0.25f;
+
+    private SimulacionSinGraficos() { }
+
+    public static void main(String[] args) {
+        long ticksTotales = args.length > 0 ? Long.parseLong(args[0]) : 100000L;
+        String clase = args.length > 1 ? args[1] : "Caballero";
+        long semilla = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        Random random = new Random(semilla);
+        EntradaSimulada entrada = new EntradaSimulada();
+        MundoJuego mundo = new MundoJuego(clase, semilla, entrada);
+        int mundosCreados = 1;
+        List<Enemigo> cercanos = new ArrayList<>(ENEMIGOS_OBJETIVO);
+        MedidorAsignaciones medidor = MedidorAsignaciones.desdePropiedades(TICKS_CALENTAMIENTO_ASIGNACIONES);
+
+        long inicio = System.nanoTime();
+        long inicioReporte = inicio;
+        for (long tick = 1; tick <= ticksTotales; tick++) {
+            if (tick % TICKS_POR_DIRECCION == 0) {
+                elegirDireccion(mundo, entrada, random, cercanos);
+            }
+            if (tick % TICKS_POR_ATAQUE == 0) {
+                if (random.nextBoolean()) entrada.pulsarAtaquePrincipal();
+                else entrada.pulsarAtaqueEspecial();
+            }
+
+            if (medidor != null) medidor.inicioFrame();
+            mundo.actualizar(PASO);
+            if (medidor != null) medidor.finFrame();
+
+            if (mundo.getJugador().estaMuerto()) {
+                mundo.dispose();
+                mundo = new MundoJuego(clase, semilla + mundosCreados, entrada);
+                mundosCreados++;
+            }
+
+            if (tick % TICKS_POR_REPORTE == 0) {
+                long ahora = System.nanoTime();
+                System.out.println("[simulacion] tick " + tick
+                    + " | " + ticksPorSegundo(TICKS_POR_REPORTE, ahora - inicioReporte) + " ticks/s"
+                    + " | enemigos " + mundo.getEnemigos().size()
+                    + " (LOD " + mundo.getPlanificadorLOD().getEnemigos(PlanificadorLOD.CERCA)
+                    + "/" + mundo.getPlanificadorLOD().getEnemigos(PlanificadorLOD.MEDIO)
+                    + "/" + mundo.getPlanificadorLOD().getEnemigos(PlanificadorLOD.LEJOS) + ")"
+                    + " | IA en " + mundo.getTrabajosEnemigos().getHilosUltimoTick() + " hilo(s)"
+                    + " | proyectiles " + mundo.getProyectiles().size());
+                inicioReporte = ahora;
+            }
+        }
+
+        long duracion = System.nanoTime() - inicio;
+        System.out.println("[simulacion] " + ticksTotales + " ticks en " + (duracion / 1000000L) + " ms ("
+            + ticksPorSegundo(ticksTotales, duracion) + " ticks/s, "
+            + mundosCreados + " mundo(s), " + (ticksTotales * PASO) + " s simulados)");
+        System.out.println("[simulacion] pool de minotauros: "
+            + mundo.getPoolMinotauros().getAciertos() + " aciertos, "
+            + mundo.getPoolMinotauros().getFallos() + " fallos, "
+            + mundo.getPoolMinotauros().getLibres() + " libres");
+        mundo.dispose();
+
+        if (medidor != null) {
+            System.out.println("[simulacion] asignaciones: maximo " + medidor.getMaximoBytes() + " bytes/tick, "
+                + medidor.getFramesConAsignaciones() + " de " + medidor.getFramesMedidos()
+                + " ticks reservaron memoria");
+            medidor.verificarEstadoEstable(FRACCION_TICKS_CON_ASIGNACIONES);
+        }
+    }
+
+    /**
+     * Apunta la entrada hacia el centro de los enemigos vivos mas cercanos al
+     * jugador, para que los ataques encuentren objetivos; sin enemigos camina al azar.
+     */
+    private static void elegirDireccion(MundoJuego mundo, EntradaSimulada entrada, Random random,
+                                        List<Enemigo> cercanos) {
+        Jugador jugador = mundo.getJugador();
+        float jx = jugador.getX() + jugador.getWidth() * 0.5f;
+        float jy = jugador.getY() + jugador.getHeight() * 0.5f;
+
+        cercanos.clear();
+        mundo.getGrillaEnemigos().masCercanos(jx, jy, ENEMIGOS_OBJETIVO, cercanos);
+        if (cercanos.isEmpty()) {
+            entrada.setEjes(random.nextInt(3) - 1, random.nextInt(3) - 1);
+            return;
+        }
+
+        float sumaX = 0f, sumaY = 0f;
+        for (int i = 0; i < cercanos.size(); i++) {
+            Enemigo e = cercanos.get(i);
+            sumaX += e.getX() + e.getWidth() * 0.5f;
+            sumaY += e.getY() + e.getHeight() * 0.5f;
+        }
+        float dx = sumaX / cercanos.size() - jx;
+        float dy = sumaY / cercanos.size() - jy;
+        entrada.setEjes(Math.abs(dx) < 16f ? 0 : (int) Math.signum(dx), Math.abs(dy) < 16f ? 0 : (int) Math.signum(dy));
+    }
+
+    private static long ticksPorSegundo(long ticks, long nanos) {
+        return nanos > 0 ? ticks * 1000000000L / nanos : 0;
+    }
+}
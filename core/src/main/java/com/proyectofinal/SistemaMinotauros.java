@@ -0,0 +1,559 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * Almacen compacto de minotauros para hordas grandes: en lugar de un objeto
+ * Minotauro por enemigo, cada dato (posicion, vida, estado, tiempos) es un
+ * arreglo primitivo y el comportamiento del Minotauro se expresa como pasadas
+ * sobre esos arreglos. Eliminar un enemigo mueve la ultima fila a su lugar.
+ *
+ * Cada tick hace estas pasadas: tiempos (suma pura, vectorizable por el JIT),
+ * grilla de vecinos (ordenamiento por conteo de los centros publicados),
+ * estados y direcciones (la maquina de estados de Enemigo.update y
+ * Minotauro.actualizarComportamiento, con el campo de flujo y la separacion y
+ * alineacion de Enemigo.moverHaciaJugador), integracion de posiciones (sin
+ * ramas si no hay obstaculos; con ellos, el deslizamiento sobre troncos y
+ * bordes de Enemigo.moverConColisiones), publicacion del estado para los
+ * vecinos y limpieza de los que terminaron de morir.
+ *
+ * Solo lo usan los benchmarks, para medir el costo del mismo comportamiento
+ * guardado en arreglos contra MinotaurosBenchmark. MundoJuego no lo usa: los
+ * proyectiles, los ataques del jugador y el nivel de detalle trabajan sobre
+ * objetos Enemigo en la GrillaEnemigos, y aqui no hay nada de eso. El daño al
+ * jugador se devuelve como resultado del tick para que lo aplique el llamador.
+ */
+public class SistemaMinotauros {
+
+    private static final int CAPACIDAD_INICIAL = 256;
+
+    // Mismos valores que Minotauro
+    private static final int VIDA = 1;
+    private static final int DANIO = 1;
+    private static final float COOLDOWN_ATAQUE = 1.0f;
+    private static final float TAMANO = 64f;
+    private static final float DISTANCIA_FRENADO = 150f;
+
+    // Celdas de la grilla de vecinos: lado minimo (el de GrillaEnemigos) y
+    // maximo de celdas por eje, para que una horda muy dispersa no pida una grilla enorme
+    private static final float TAM_CELDA_VECINOS = GrillaEnemigos.TAM_CELDA_DEFECTO;
+    private static final int MAX_CELDAS_LADO = 256;
+
+    // Estados (ordinales de Enemigo.EstadoEnemigo)
+    private static final byte IDLE = (byte) Enemigo.EstadoEnemigo.IDLE.ordinal();
+    private static final byte RUNNING = (byte) Enemigo.EstadoEnemigo.RUNNING.ordinal();
+    private static final byte ATTACKING = (byte) Enemigo.EstadoEnemigo.ATTACKING.ordinal();
+    private static final byte ATTACKING2 = (byte) Enemigo.EstadoEnemigo.ATTACKING2.ordinal();
+    private static final byte HIT = (byte) Enemigo.EstadoEnemigo.HIT.ordinal();
+    private static final byte DYING = (byte) Enemigo.EstadoEnemigo.DYING.ordinal();
+    private static final Enemigo.EstadoEnemigo[] ESTADOS = Enemigo.EstadoEnemigo.values();
+
+    // Duracion de las animaciones que no se repiten (una animacion termina al pasar su ultimo frame)
+    private static final float DURACION_ATAQUE = duracion(Enemigo.EstadoEnemigo.ATTACKING);
+    private static final float DURACION_ATAQUE2 = duracion(Enemigo.EstadoEnemigo.ATTACKING2);
+    private static final float DURACION_GOLPE = duracion(Enemigo.EstadoEnemigo.HIT);
+    private static final float DURACION_MUERTE = duracion(Enemigo.EstadoEnemigo.DYING);
+
+    // Filas de minotauros (indice = enemigo)
+    private int cantidad = 0;
+    private float[] x = new float[CAPACIDAD_INICIAL];
+    private float[] y = new float[CAPACIDAD_INICIAL];
+    private float[] xPrevio = new float[CAPACIDAD_INICIAL];
+    private float[] yPrevio = new float[CAPACIDAD_INICIAL];
+    private float[] velocidad = new float[CAPACIDAD_INICIAL];
+    private float[] tiempoEstado = new float[CAPACIDAD_INICIAL];
+    private float[] tiempoDesdeAtaque = new float[CAPACIDAD_INICIAL];
+    private float[] tiempoPostMortem = new float[CAPACIDAD_INICIAL];
+    private int[] vida = new int[CAPACIDAD_INICIAL];
+    private byte[] estado = new byte[CAPACIDAD_INICIAL];
+    private boolean[] mirandoDerecha = new boolean[CAPACIDAD_INICIAL];
+    private boolean[] terminado = new boolean[CAPACIDAD_INICIAL];
+
+    // Desplazamiento por segundo calculado en la pasada de estados (0 si no se mueve)
+    private float[] pasoX = new float[CAPACIDAD_INICIAL];
+    private float[] pasoY = new float[CAPACIDAD_INICIAL];
+
+    // Centro y direccion de movimiento publicados al final de cada tick; los
+    // vecinos leen estos valores, como en Enemigo
+    private float[] centroXPublicado = new float[CAPACIDAD_INICIAL];
+    private float[] centroYPublicado = new float[CAPACIDAD_INICIAL];
+    private float[] direccionXPublicada = new float[CAPACIDAD_INICIAL];
+    private float[] direccionYPublicada = new float[CAPACIDAD_INICIAL];
+
+    // Grilla de vecinos, rehecha cada tick: las filas de la celda c son
+    // filasPorCelda[inicioCelda[c]] .. filasPorCelda[inicioCelda[c + 1] - 1]
+    private int[] filasPorCelda = new int[CAPACIDAD_INICIAL];
+    private int[] inicioCelda = new int[1];
+    private float origenGrillaX, origenGrillaY, ladoCelda;
+    private int columnasGrilla, filasGrilla;
+
+    // Campo de flujo compartido (null: linea recta hacia el jugador)
+    private CampoFlujo campoFlujo;
+
+    // Obstaculos estaticos del mapa (null: se mueven sin chocar ni limites)
+    private IndiceColisiones colisiones;
+
+    // Generador xorshift para la velocidad inicial y para desempatar vecinos
+    // superpuestos, sin sincronizacion como Math.random
+    private int semilla;
+
+    // Animaciones compartidas, se buscan la primera vez que se dibuja
+    private AnimacionesEnemigo animaciones;
+
+    /**
+     * @param semilla semilla de la velocidad inicial y del desempate de vecinos superpuestos
+     */
+    public SistemaMinotauros(long semilla) {
+        this.semilla = (int) (semilla ^ (semilla >>> 32)) | 1;
+    }
+
+    private static float duracion(Enemigo.EstadoEnemigo estado) {
+        return TipoEnemigo.MINOTAURO.getFrames(estado) * TipoEnemigo.MINOTAURO.getDuracionFrame();
+    }
+
+    /** @param campoFlujo campo compartido hacia el jugador (null para ir en linea recta) */
+    public void setCampoFlujo(CampoFlujo campoFlujo) {
+        this.campoFlujo = campoFlujo;
+    }
+
+    /** @param colisiones obstaculos del mapa (null para moverse sin chocar ni limites) */
+    public void setColisiones(IndiceColisiones colisiones) {
+        this.colisiones = colisiones;
+    }
+
+    /**
+     * Agrega un minotauro persiguiendo al jugador.
+     * @return indice de la fila (valido hasta la proxima eliminacion)
+     */
+    public int agregar(float px, float py) {
+        if (cantidad == x.length) crecer();
+        int i = cantidad++;
+        x[i] = px;
+        y[i] = py;
+        xPrevio[i] = px;
+        yPrevio[i] = py;
+        velocidad[i] = 85f + aleatorio() * 10f;
+        tiempoEstado[i] = 0f;
+        tiempoDesdeAtaque[i] = Float.MAX_VALUE;
+        tiempoPostMortem[i] = 0f;
+        vida[i] = VIDA;
+        estado[i] = RUNNING;
+        mirandoDerecha[i] = true;
+        terminado[i] = false;
+        pasoX[i] = 0f;
+        pasoY[i] = 0f;
+        centroXPublicado[i] = px + TAMANO * 0.5f;
+        centroYPublicado[i] = py + TAMANO * 0.5f;
+        direccionXPublicada[i] = 0f;
+        direccionYPublicada[i] = 0f;
+        return i;
+    }
+
+    /** Duplica la capacidad de todos los arreglos. */
+    private void crecer() {
+        int nueva = x.length * 2;
+        x = Arrays.copyOf(x, nueva);
+        y = Arrays.copyOf(y, nueva);
+        xPrevio = Arrays.copyOf(xPrevio, nueva);
+        yPrevio = Arrays.copyOf(yPrevio, nueva);
+        velocidad = Arrays.copyOf(velocidad, nueva);
+        tiempoEstado = Arrays.copyOf(tiempoEstado, nueva);
+        tiempoDesdeAtaque = Arrays.copyOf(tiempoDesdeAtaque, nueva);
+        tiempoPostMortem = Arrays.copyOf(tiempoPostMortem, nueva);
+        vida = Arrays.copyOf(vida, nueva);
+        estado = Arrays.copyOf(estado, nueva);
+        mirandoDerecha = Arrays.copyOf(mirandoDerecha, nueva);
+        terminado = Arrays.copyOf(terminado, nueva);
+        pasoX = Arrays.copyOf(pasoX, nueva);
+        pasoY = Arrays.copyOf(pasoY, nueva);
+        centroXPublicado = Arrays.copyOf(centroXPublicado, nueva);
+        centroYPublicado = Arrays.copyOf(centroYPublicado, nueva);
+        direccionXPublicada = Arrays.copyOf(direccionXPublicada, nueva);
+        direccionYPublicada = Arrays.copyOf(direccionYPublicada, nueva);
+        filasPorCelda = new int[nueva];
+    }
+
+    /**
+     * Avanza todos los minotauros un tick.
+     * @param delta tiempo del tick en segundos
+     * @param jugadorX posicion del jugador
+     * @param jugadorY posicion del jugador
+     * @return daño total que los minotauros hicieron al jugador en este tick
+     */
+    public int actualizar(float delta, float jugadorX, float jugadorY) {
+        int n = cantidad;
+
+        // 1) Tiempos y posicion previa: sumas independientes por fila
+        for (int i = 0; i < n; i++) {
+            tiempoEstado[i] += delta;
+            tiempoDesdeAtaque[i] += delta;
+            xPrevio[i] = x[i];
+            yPrevio[i] = y[i];
+        }
+
+        // 2) Grilla de vecinos sobre el estado publicado en el tick anterior
+        construirGrillaVecinos(n);
+
+        // 3) Maquina de estados y direccion de movimiento
+        int danioJugador = 0;
+        for (int i = 0; i < n; i++) {
+            pasoX[i] = 0f;
+            pasoY[i] = 0f;
+            byte e = estado[i];
+
+            if (e == DYING) {
+                if (tiempoEstado[i] >= DURACION_MUERTE) {
+                    tiempoPostMortem[i] += delta;
+                    if (tiempoPostMortem[i] >= Enemigo.TIEMPO_ELIMINACION) terminado[i] = true;
+                }
+                continue;
+            }
+            if (e == HIT) {
+                if (tiempoEstado[i] >= DURACION_GOLPE) {
+                    estado[i] = IDLE;
+                    tiempoEstado[i] = 0f;
+                }
+                continue;
+            }
+            if (e == ATTACKING || e == ATTACKING2) {
+                if (tiempoEstado[i] >= (e == ATTACKING ? DURACION_ATAQUE : DURACION_ATAQUE2)) {
+                    estado[i] = IDLE;
+                    tiempoEstado[i] = 0f;
+                    tiempoDesdeAtaque[i] = 0f;
+                }
+                continue;
+            }
+
+            float dx = jugadorX - x[i];
+            float dy = jugadorY - y[i];
+            float distancia = (float) Math.sqrt(dx * dx + dy * dy);
+
+            if (distancia <= Minotauro.ATTACK_RANGE && tiempoDesdeAtaque[i] >= COOLDOWN_ATAQUE) {
+                estado[i] = ATTACKING;
+                tiempoEstado[i] = 0f;
+                danioJugador += DANIO;
+            } else if (distancia <= Minotauro.DETECTION_RANGE) {
+                estado[i] = RUNNING;
+                calcularPaso(i, dx, dy, distancia);
+            } else {
+                estado[i] = IDLE;
+            }
+        }
+
+        // 4) Integracion: pasada lineal sin ramas, o con los obstaculos del mapa
+        if (colisiones == null) {
+            for (int i = 0; i < n; i++) {
+                x[i] += pasoX[i] * delta;
+                y[i] += pasoY[i] * delta;
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                if (pasoX[i] != 0f || pasoY[i] != 0f) moverConColisiones(i, pasoX[i] * delta, pasoY[i] * delta);
+            }
+        }
+
+        // 5) Publicar centro y direccion para los vecinos del tick siguiente
+        for (int i = 0; i < n; i++) {
+            centroXPublicado[i] = x[i] + TAMANO * 0.5f;
+            centroYPublicado[i] = y[i] + TAMANO * 0.5f;
+            float mx = x[i] - xPrevio[i];
+            float my = y[i] - yPrevio[i];
+            float largo = (float) Math.sqrt(mx * mx + my * my);
+            if (largo != 0f) {
+                direccionXPublicada[i] = mx / largo;
+                direccionYPublicada[i] = my / largo;
+            } else {
+                direccionXPublicada[i] = 0f;
+                direccionYPublicada[i] = 0f;
+            }
+        }
+
+        // 6) Eliminar los que terminaron de morir
+        for (int i = cantidad - 1; i >= 0; i--) {
+            if (terminado[i]) eliminar(i);
+        }
+        return danioJugador;
+    }
+
+    /**
+     * Velocidad del minotauro i hacia el jugador, con las reglas de
+     * Enemigo.moverHaciaJugador: campo de flujo lejos del jugador, separacion y
+     * alineacion con los vecinos y frenado al acercarse (salvo la separacion).
+     */
+    private void calcularPaso(int i, float dx, float dy, float distancia) {
+        float dirX = 0f, dirY = 0f;
+        if (distancia != 0f) {
+            dirX = dx / distancia;
+            dirY = dy / distancia;
+        }
+
+        if (campoFlujo != null && distancia > Enemigo.DISTANCIA_DIRECTA) {
+            int direccion = campoFlujo.direccion(x[i] + TAMANO * 0.5f, y[i] + TAMANO * 0.5f);
+            if (direccion != CampoFlujo.SIN_DIRECCION) {
+                dirX = CampoFlujo.getDirX(direccion);
+                dirY = CampoFlujo.getDirY(direccion);
+            }
+        }
+
+        // Separacion y alineacion con los vecinos publicados
+        float cx = centroXPublicado[i];
+        float cy = centroYPublicado[i];
+        float radio = Enemigo.RADIO_VECINOS;
+        float sepX = 0f, sepY = 0f;
+        float alX = 0f, alY = 0f;
+        int vecinos = 0;
+
+        int x0 = columnaVecinos(cx - radio), x1 = columnaVecinos(cx + radio);
+        int y0 = filaVecinos(cy - radio), y1 = filaVecinos(cy + radio);
+        busqueda:
+        for (int celdaY = y0; celdaY <= y1; celdaY++) {
+            for (int celdaX = x0; celdaX <= x1; celdaX++) {
+                int celda = celdaY * columnasGrilla + celdaX;
+                for (int k = inicioCelda[celda], fin = inicioCelda[celda + 1]; k < fin; k++) {
+                    int otro = filasPorCelda[k];
+                    if (otro == i || estado[otro] == DYING) continue;
+
+                    float ox = cx - centroXPublicado[otro];
+                    float oy = cy - centroYPublicado[otro];
+                    float d2 = ox * ox + oy * oy;
+                    if (d2 > radio * radio) continue;
+
+                    float d = (float) Math.sqrt(d2);
+                    if (d == 0f) {
+                        // Exactamente superpuestos: empujar hacia un lado al azar
+                        ox = aleatorio() - 0.5f;
+                        oy = aleatorio() - 0.5f;
+                        d = (float) Math.sqrt(ox * ox + oy * oy);
+                        if (d == 0f) continue;
+                    }
+                    // Mas fuerte cuanto mas cerca
+                    float fuerza = (1f - d / radio) / d;
+                    sepX += ox * fuerza;
+                    sepY += oy * fuerza;
+                    alX += direccionXPublicada[otro];
+                    alY += direccionYPublicada[otro];
+
+                    if (++vecinos == Enemigo.MAX_VECINOS) break busqueda;
+                }
+            }
+        }
+
+        if (vecinos > 0) {
+            sepX *= Enemigo.PESO_SEPARACION;
+            sepY *= Enemigo.PESO_SEPARACION;
+            dirX += alX / vecinos * Enemigo.PESO_ALINEACION;
+            dirY += alY / vecinos * Enemigo.PESO_ALINEACION;
+        }
+        float largo = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (largo != 0f) {
+            dirX /= largo;
+            dirY /= largo;
+        }
+
+        float factor = distancia < DISTANCIA_FRENADO ? distancia / DISTANCIA_FRENADO : 1f;
+        float movX = dirX * factor + sepX;
+        float movY = dirY * factor + sepY;
+        largo = (float) Math.sqrt(movX * movX + movY * movY);
+        if (largo > 1f) {
+            movX /= largo;
+            movY /= largo;
+        }
+        pasoX[i] = movX * velocidad[i];
+        pasoY[i] = movY * velocidad[i];
+        if (pasoX[i] != 0f) mirandoDerecha[i] = pasoX[i] > 0f;
+    }
+
+    /**
+     * Ordena las filas por celda segun su centro publicado (ordenamiento por
+     * conteo, sin reservar memoria salvo que crezca la cantidad de celdas).
+     * Dentro de cada celda las filas quedan en orden creciente.
+     */
+    private void construirGrillaVecinos(int n) {
+        if (n == 0) {
+            columnasGrilla = filasGrilla = 1;
+            ladoCelda = TAM_CELDA_VECINOS;
+            inicioCelda[0] = 0;
+            return;
+        }
+
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, centroXPublicado[i]);
+            maxX = Math.max(maxX, centroXPublicado[i]);
+            minY = Math.min(minY, centroYPublicado[i]);
+            maxY = Math.max(maxY, centroYPublicado[i]);
+        }
+        origenGrillaX = minX;
+        origenGrillaY = minY;
+        ladoCelda = Math.max(TAM_CELDA_VECINOS, Math.max(maxX - minX, maxY - minY) / MAX_CELDAS_LADO);
+        columnasGrilla = (int) ((maxX - minX) / ladoCelda) + 1;
+        filasGrilla = (int) ((maxY - minY) / ladoCelda) + 1;
+
+        int celdas = columnasGrilla * filasGrilla;
+        if (inicioCelda.length < celdas + 1) inicioCelda = new int[celdas + 1];
+        Arrays.fill(inicioCelda, 0, celdas + 1, 0);
+
+        // Conteo por celda y suma acumulada: inicioCelda[c] queda en el fin de la celda c
+        for (int i = 0; i < n; i++) {
+            inicioCelda[celdaVecinos(i)]++;
+        }
+        for (int c = 1; c < celdas; c++) {
+            inicioCelda[c] += inicioCelda[c - 1];
+        }
+        inicioCelda[celdas] = n;
+        // Recorriendo al reves, cada celda termina apuntando a su inicio y en orden creciente
+        for (int i = n - 1; i >= 0; i--) {
+            filasPorCelda[--inicioCelda[celdaVecinos(i)]] = i;
+        }
+    }
+
+    private int celdaVecinos(int i) {
+        return filaVecinos(centroYPublicado[i]) * columnasGrilla + columnaVecinos(centroXPublicado[i]);
+    }
+
+    private int columnaVecinos(float px) {
+        int c = (int) ((px - origenGrillaX) / ladoCelda);
+        return c < 0 ? 0 : Math.min(c, columnasGrilla - 1);
+    }
+
+    private int filaVecinos(float py) {
+        int f = (int) ((py - origenGrillaY) / ladoCelda);
+        return f < 0 ? 0 : Math.min(f, filasGrilla - 1);
+    }
+
+    /**
+     * Desplaza el minotauro i como Enemigo.moverConColisiones: dentro de los
+     * limites del mapa, sin que sus pies entren en un tronco y resolviendo cada
+     * eje por separado para deslizarse sobre el tronco. Si ya esta dentro de
+     * uno se mueve libre hasta salir.
+     */
+    private void moverConColisiones(int i, float dx, float dy) {
+        float maxX = colisiones.getAnchoPx() - TAMANO;
+        float maxY = colisiones.getAltoPx() - TAMANO;
+        boolean atrapado = colisiones.colisiona(x[i] + Enemigo.PIES_X, y[i] + Enemigo.PIES_Y,
+            Enemigo.PIES_ANCHO, Enemigo.PIES_ALTO);
+
+        float nuevoX = Math.max(0f, Math.min(maxX, x[i] + dx));
+        if (atrapado || !colisiones.colisiona(nuevoX + Enemigo.PIES_X, y[i] + Enemigo.PIES_Y,
+            Enemigo.PIES_ANCHO, Enemigo.PIES_ALTO)) {
+            x[i] = nuevoX;
+        }
+
+        float nuevoY = Math.max(0f, Math.min(maxY, y[i] + dy));
+        if (atrapado || !colisiones.colisiona(x[i] + Enemigo.PIES_X, nuevoY + Enemigo.PIES_Y,
+            Enemigo.PIES_ANCHO, Enemigo.PIES_ALTO)) {
+            y[i] = nuevoY;
+        }
+    }
+
+    /** Numero pseudoaleatorio en [0, 1). */
+    private float aleatorio() {
+        semilla ^= semilla << 13;
+        semilla ^= semilla >>> 17;
+        semilla ^= semilla << 5;
+        return (semilla >>> 8) * (1f / (1 << 24));
+    }
+
+    /**
+     * Aplica daño al minotauro i con las mismas reglas que Enemigo.recibirDanio.
+     * @return true si murio con este golpe
+     */
+    public boolean recibirDanio(int i, int cantidadDanio) {
+        if (estado[i] == DYING) return false;
+        vida[i] -= cantidadDanio;
+        tiempoEstado[i] = 0f;
+        if (vida[i] <= 0) {
+            vida[i] = 0;
+            estado[i] = DYING;
+            tiempoPostMortem[i] = 0f;
+            return true;
+        }
+        estado[i] = HIT;
+        return false;
+    }
+
+    /**
+     * Elimina el minotauro i en O(1): la ultima fila pasa a ocupar su lugar.
+     */
+    public void eliminar(int i) {
+        int ultimo = --cantidad;
+        if (i == ultimo) return;
+        x[i] = x[ultimo];
+        y[i] = y[ultimo];
+        xPrevio[i] = xPrevio[ultimo];
+        yPrevio[i] = yPrevio[ultimo];
+        velocidad[i] = velocidad[ultimo];
+        tiempoEstado[i] = tiempoEstado[ultimo];
+        tiempoDesdeAtaque[i] = tiempoDesdeAtaque[ultimo];
+        tiempoPostMortem[i] = tiempoPostMortem[ultimo];
+        vida[i] = vida[ultimo];
+        estado[i] = estado[ultimo];
+        mirandoDerecha[i] = mirandoDerecha[ultimo];
+        terminado[i] = terminado[ultimo];
+        pasoX[i] = pasoX[ultimo];
+        pasoY[i] = pasoY[ultimo];
+        centroXPublicado[i] = centroXPublicado[ultimo];
+        centroYPublicado[i] = centroYPublicado[ultimo];
+        direccionXPublicada[i] = direccionXPublicada[ultimo];
+        direccionYPublicada[i] = direccionYPublicada[ultimo];
+    }
+
+    /** Elimina todos los minotauros. */
+    public void limpiar() {
+        cantidad = 0;
+    }
+
+    /**
+     * Encola los minotauros que se solapan con la vista en la cola de dibujo del mundo.
+     * @return cantidad de minotauros encolados
+     */
+    public int encolar(ColaRender cola, Rectangle vista) {
+        if (cantidad == 0) return 0;
+        if (animaciones == null) animaciones = BibliotecaAnimacionesEnemigos.obtener(TipoEnemigo.MINOTAURO);
+
+        int encolados = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (x[i] + TAMANO < vista.x || x[i] > vista.x + vista.width
+                || y[i] + TAMANO < vista.y || y[i] > vista.y + vista.height) {
+                continue;
+            }
+
+            boolean repetir = estado[i] == IDLE || estado[i] == RUNNING;
+            Animation<TextureRegion> animacion = animaciones.getAnimacion(ESTADOS[estado[i]]);
+            TextureRegion frame = animacion.getKeyFrame(tiempoEstado[i], repetir);
+
+            float dx = cola.interpolar(xPrevio[i], x[i]);
+            float dy = cola.interpolar(yPrevio[i], y[i]);
+            if (mirandoDerecha[i]) {
+                cola.agregar(frame, dx, dy, TAMANO, TAMANO);
+            } else {
+                cola.agregar(frame, dx + TAMANO, dy, -TAMANO, TAMANO);
+            }
+            encolados++;
+        }
+        return encolados;
+    }
+
+    /** @return cantidad de minotauros (vivos o muriendo) */
+    public int size() { return cantidad; }
+
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+    public int getVida(int i) { return vida[i]; }
+    public boolean estaVivo(int i) { return estado[i] != DYING; }
+
+    /** @return estado del minotauro i */
+    public Enemigo.EstadoEnemigo getEstado(int i) {
+        return ESTADOS[estado[i]];
+    }
+
+    /** Escribe en salida la hitbox del minotauro i (64x64 desde su posicion). */
+    public Rectangle getHitbox(int i, Rectangle salida) {
+        return salida.set(x[i], y[i], TAMANO, TAMANO);
+    }
+}
@@ -0,0 +1,444 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Todos los proyectiles del mundo (flechas del Arquero y hechizos del Mago)
+ * guardados en arreglos paralelos: posicion, velocidad, tiempo de animacion y estado.
+ *
+ * Lanzar un proyectil solo escribe una fila nueva y eliminarlo mueve la ultima
+ * fila a su lugar, asi que el fuego sostenido (modo ilimitado del Arquero,
+ * hechizos especiales que atraviesan) no crea objetos. Los arreglos solo crecen
+ * si se supera la capacidad, y nunca se achican.
+ *
+ * Los frames son las regiones compartidas del AtlasJuego: los proyectiles que van
+ * hacia la izquierda se dibujan con ancho negativo en lugar de voltear copias.
+ */
+public class SistemaProyectiles {
+
+    // Tipos de proyectil
+    public static final int FLECHA = 0;
+    public static final int HECHIZO = 1;
+
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    // Tamaño base del sprite antes de aplicar la escala
+    private static final float TAM_SPRITE = 32f;
+
+    // Fuera de los limites del mundo (mas este margen) el proyectil se elimina
+    private static final float MARGEN_LIMITES = 100f;
+
+    // Animaciones: 0.1 s por frame
+    private static final float FRAME_DURACION = 0.1f;
+    private static final int FRAMES_FLECHA_VUELO = 3;
+    private static final int FRAMES_FLECHA_IMPACTO = 5;
+    private static final int FRAMES_HECHIZO = 5;
+
+    // Daño extra que suma todo hechizo al lanzarse
+    private static final int BONO_DANIO_HECHIZO = 20;
+
+    // Hitbox de impacto de la flecha sobre el enemigo (mas amplia que su sprite)
+    private static final float TAM_IMPACTO_FLECHA = 48f;
+
+    // Filas de proyectiles (indice = proyectil)
+    private int cantidad = 0;
+    private int[] tipo = new int[CAPACIDAD_INICIAL];
+    private float[] x = new float[CAPACIDAD_INICIAL];
+    private float[] y = new float[CAPACIDAD_INICIAL];
+    private float[] xPrevio = new float[CAPACIDAD_INICIAL];      // posicion al comenzar el tick
+    private float[] yPrevio = new float[CAPACIDAD_INICIAL];
+    private float[] velocidadX = new float[CAPACIDAD_INICIAL];   // negativa si va a la izquierda
+    private float[] escala = new float[CAPACIDAD_INICIAL];
+    private float[] tiempo = new float[CAPACIDAD_INICIAL];       // tiempo de la animacion actual
+    private int[] danio = new int[CAPACIDAD_INICIAL];
+    private float[] radioEfecto = new float[CAPACIDAD_INICIAL];  // daño en area de los hechizos
+    private boolean[] atraviesa = new boolean[CAPACIDAD_INICIAL];
+    private boolean[] impactado = new boolean[CAPACIDAD_INICIAL];
+    private boolean[] terminado = new boolean[CAPACIDAD_INICIAL];
+
+    // Limites horizontales del mundo
+    private float limiteMinX = 0f;
+    private float limiteMaxX = Float.MAX_VALUE;
+
+    // Temporales reutilizados en las colisiones
+    private final Rectangle hitbox = new Rectangle();
+    private final Rectangle hitboxEnemigo = new Rectangle();
+    private final List<Enemigo> candidatos = new ArrayList<>();
+
+    // Frames compartidos, se cargan la primera vez que se dibuja
+    private TextureRegion[] framesFlechaVuelo;
+    private TextureRegion[] framesFlechaImpacto;
+    private TextureRegion[] framesHechizo;
+
+    /**
+     * Define los limites horizontales del mundo en pixeles.
+     * @param minX borde izquierdo
+     * @param maxX borde derecho
+     */
+    public void setLimitesMundo(float minX, float maxX) {
+        this.limiteMinX = minX;
+        this.limiteMaxX = maxX;
+    }
+
+    /**
+     * Lanza una flecha. Impacta al primer enemigo vivo que toca y se elimina al
+     * terminar la animacion de impacto.
+     * @param izquierda true si viaja hacia la izquierda
+     */
+    public void lanzarFlecha(float px, float py, boolean izquierda, int dano, float velocidad, float esc) {
+        int i = nuevaFila(FLECHA, px, py, izquierda, dano, velocidad, esc);
+        radioEfecto[i] = 0f;
+        atraviesa[i] = false;
+    }
+
+    /**
+     * Lanza un hechizo. Al impactar hace daño en area dentro del radio de efecto;
+     * si atraviesa enemigos sigue su camino despues de cada impacto.
+     * @param izquierda true si viaja hacia la izquierda
+     */
+    public void lanzarHechizo(float px, float py, boolean izquierda, int dano, float velocidad, float esc,
+                              float radio, boolean atraviesaEnemigos) {
+        int i = nuevaFila(HECHIZO, px, py, izquierda, dano + BONO_DANIO_HECHIZO, velocidad, esc);
+        radioEfecto[i] = radio;
+        atraviesa[i] = atraviesaEnemigos;
+    }
+
+    private int nuevaFila(int t, float px, float py, boolean izquierda, int dano, float velocidad, float esc) {
+        if (cantidad == tipo.length) crecer();
+        int i = cantidad++;
+        tipo[i] = t;
+        x[i] = px;
+        y[i] = py;
+        xPrevio[i] = px;
+        yPrevio[i] = py;
+        velocidadX[i] = izquierda ? -velocidad : velocidad;
+        escala[i] = esc;
+        tiempo[i] = 0f;
+        danio[i] = dano;
+        impactado[i] = false;
+        terminado[i] = false;
+        return i;
+    }
+
+    /** Duplica la capacidad de todos los arreglos. Solo ocurre si se supera el maximo historico. */
+    private void crecer() {
+        int nueva = tipo.length * 2;
+        tipo = Arrays.copyOf(tipo, nueva);
+        x = Arrays.copyOf(x, nueva);
+        y = Arrays.copyOf(y, nueva);
+        xPrevio = Arrays.copyOf(xPrevio, nueva);
+        yPrevio = Arrays.copyOf(yPrevio, nueva);
+        velocidadX = Arrays.copyOf(velocidadX, nueva);
+        escala = Arrays.copyOf(escala, nueva);
+        tiempo = Arrays.copyOf(tiempo, nueva);
+        danio = Arrays.copyOf(danio, nueva);
+        radioEfecto = Arrays.copyOf(radioEfecto, nueva);
+        atraviesa = Arrays.copyOf(atraviesa, nueva);
+        impactado = Arrays.copyOf(impactado, nueva);
+        terminado = Arrays.copyOf(terminado, nueva);
+    }
+
+    /**
+     * Avanza un tick: movimiento, colisiones con los enemigos y limpieza de los
+     * proyectiles que salieron del mundo o terminaron su animacion de impacto.
+     * @param delta tiempo del tick en segundos
+     * @param grilla indice espacial de los enemigos
+     */
+    public void actualizar(float delta, GrillaEnemigos grilla) {
+        mover(delta);
+        comprobarColisiones(grilla);
+        eliminarTerminados();
+    }
+
+    /** Mueve los proyectiles en vuelo y marca los que terminaron. */
+    public void mover(float delta) {
+        for (int i = 0; i < cantidad; i++) {
+            tiempo[i] += delta;
+            xPrevio[i] = x[i];
+            yPrevio[i] = y[i];
+
+            if (!impactado[i]) {
+                x[i] += velocidadX[i] * delta;
+                if (x[i] < limiteMinX - getTamano(i) - MARGEN_LIMITES || x[i] > limiteMaxX + MARGEN_LIMITES) {
+                    terminado[i] = true;
+                }
+            } else {
+                // Ya impacto: esperar a que termine la animacion de impacto
+                int framesImpacto = tipo[i] == FLECHA ? FRAMES_FLECHA_IMPACTO : FRAMES_HECHIZO;
+                if (tiempo[i] >= framesImpacto * FRAME_DURACION) {
+                    terminado[i] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifica las colisiones de los proyectiles en vuelo. Cada uno consulta
+     * solo las celdas de la grilla cercanas a su hitbox.
+     * @param grilla indice espacial de los enemigos
+     */
+    public void comprobarColisiones(GrillaEnemigos grilla) {
+        if (grilla == null || grilla.size() == 0) return;
+
+        for (int i = 0; i < cantidad; i++) {
+            if (impactado[i] || terminado[i]) continue;
+            if (tipo[i] == FLECHA) {
+                colisionFlecha(i, grilla);
+            } else {
+                colisionHechizo(i, grilla);
+            }
+        }
+    }
+
+    private void colisionFlecha(int i, GrillaEnemigos grilla) {
+        // La hitbox de impacto (48x48) esta contenida en la del enemigo,
+        // asi que basta con consultar los enemigos que tocan la flecha
+        getHitboxBarrida(i, hitbox);
+        candidatos.clear();
+        grilla.consultarRectangulo(hitbox, candidatos);
+
+        for (int c = 0; c < candidatos.size(); c++) {
+            Enemigo e = candidatos.get(c);
+            if (e == null || !e.estaVivo()) continue;
+
+            hitboxEnemigo.set(e.getX(), e.getY(), TAM_IMPACTO_FLECHA, TAM_IMPACTO_FLECHA);
+            if (hitbox.overlaps(hitboxEnemigo)) {
+                e.recibirDanio(danio[i]);
+                impactado[i] = true;
+                tiempo[i] = 0f;
+
+                // La animacion de impacto se centra en el enemigo (sin interpolar el salto)
+                float tam = getTamano(i);
+                x[i] = e.getX() + 16 - tam / 2;
+                y[i] = e.getY() + 16 - tam / 2;
+                xPrevio[i] = x[i];
+                yPrevio[i] = y[i];
+
+                System.out.println("¡Flecha impactó al enemigo!");
+                return;
+            }
+        }
+    }
+
+    private void colisionHechizo(int i, GrillaEnemigos grilla) {
+        // Colision directa con el primer enemigo vivo que toca la hitbox
+        getHitboxBarrida(i, hitbox);
+        candidatos.clear();
+        grilla.consultarRectangulo(hitbox, candidatos);
+
+        Enemigo enemigoImpactado = null;
+        for (int c = 0; c < candidatos.size(); c++) {
+            Enemigo e = candidatos.get(c);
+            if (e.estaVivo()) {
+                enemigoImpactado = e;
+                break;
+            }
+        }
+        if (enemigoImpactado == null) return;
+
+        tiempo[i] = 0f;
+        enemigoImpactado.recibirDanio(danio[i]);
+
+        // Daño en area a los enemigos dentro del radio de efecto
+        float tam = getTamano(i);
+        float centroX = x[i] + tam / 2;
+        float centroY = y[i] + tam / 2;
+        float radio = radioEfecto[i];
+
+        candidatos.clear();
+        grilla.consultarRadio(centroX, centroY, radio, candidatos);
+        for (int c = 0; c < candidatos.size(); c++) {
+            Enemigo e = candidatos.get(c);
+            if (e != enemigoImpactado && e.estaVivo()) {
+                float dx = centroX - (e.getX() + e.getWidth() / 2);
+                float dy = centroY - (e.getY() + e.getHeight() / 2);
+                float distancia = (float) Math.sqrt(dx * dx + dy * dy);
+
+                if (distancia <= radio) {
+                    float factorDanio = 1 - (distancia / radio);
+                    int danioArea = (int)(danio[i] * factorDanio * 0.5f);
+                    if (danioArea > 0) e.recibirDanio(danioArea);
+                }
+            }
+        }
+
+        // Si atraviesa, el hechizo sigue activo
+        impactado[i] = !atraviesa[i];
+    }
+
+    /** Elimina los proyectiles terminados moviendo la ultima fila a su lugar. */
+    public void eliminarTerminados() {
+        for (int i = cantidad - 1; i >= 0; i--) {
+            if (terminado[i]) eliminar(i);
+        }
+    }
+
+    /**
+     * Elimina el proyectil i en O(1): la ultima fila pasa a ocupar su lugar,
+     * por lo que el orden de los proyectiles no se conserva.
+     */
+    public void eliminar(int i) {
+        int ultimo = --cantidad;
+        if (i == ultimo) return;
+        tipo[i] = tipo[ultimo];
+        x[i] = x[ultimo];
+        y[i] = y[ultimo];
+        xPrevio[i] = xPrevio[ultimo];
+        yPrevio[i] = yPrevio[ultimo];
+        velocidadX[i] = velocidadX[ultimo];
+        escala[i] = escala[ultimo];
+        tiempo[i] = tiempo[ultimo];
+        danio[i] = danio[ultimo];
+        radioEfecto[i] = radioEfecto[ultimo];
+        atraviesa[i] = atraviesa[ultimo];
+        impactado[i] = impactado[ultimo];
+        terminado[i] = terminado[ultimo];
+    }
+
+    /** Elimina todos los proyectiles. */
+    public void limpiar() {
+        cantidad = 0;
+    }
+
+    /**
+     * Dibuja todos los proyectiles en una sola pasada. El batch debe estar iniciado.
+     */
+    public void dibujar(Batch batch) {
+        dibujar(batch, null);
+    }
+
+    /**
+     * Dibuja en una sola pasada los proyectiles que se solapan con la vista.
+     * @param vista area visible del mundo (null dibuja todos)
+     * @return cantidad de proyectiles enviados al batch
+     */
+    public int dibujar(Batch batch, Rectangle vista) {
+        if (cantidad == 0) return 0;
+        if (framesHechizo == null) cargarFrames();
+
+        int dibujados = 0;
+        for (int i = 0; i < cantidad; i++) {
+            float tam = getTamano(i);
+            if (vista != null && (x[i] + tam < vista.x || x[i] > vista.x + vista.width
+                || y[i] + tam < vista.y || y[i] > vista.y + vista.height)) {
+                continue;
+            }
+
+            TextureRegion frame = frameActual(i);
+            if (frame == null) continue;
+
+            dibujados++;
+            if (velocidadX[i] >= 0) {
+                batch.draw(frame, x[i], y[i], tam, tam);
+            } else {
+                // Hacia la izquierda: voltear con ancho negativo
+                batch.draw(frame, x[i] + tam, y[i], -tam, tam);
+            }
+        }
+        return dibujados;
+    }
+
+    /**
+     * Encola en la cola de dibujo del mundo los proyectiles que se solapan con la vista.
+     * @return cantidad de proyectiles encolados
+     */
+    public int encolar(ColaRender cola, Rectangle vista) {
+        if (cantidad == 0) return 0;
+        if (framesHechizo == null) cargarFrames();
+
+        int encolados = 0;
+        for (int i = 0; i < cantidad; i++) {
+            float tam = getTamano(i);
+            if (x[i] + tam < vista.x || x[i] > vista.x + vista.width
+                || y[i] + tam < vista.y || y[i] > vista.y + vista.height) {
+                continue;
+            }
+
+            TextureRegion frame = frameActual(i);
+            if (frame == null) continue;
+
+            encolados++;
+            float dx = cola.interpolar(xPrevio[i], x[i]);
+            float dy = cola.interpolar(yPrevio[i], y[i]);
+            if (velocidadX[i] >= 0) {
+                cola.agregar(frame, dx, dy, tam, tam);
+            } else {
+                // Hacia la izquierda: voltear con ancho negativo
+                cola.agregar(frame, dx + tam, dy, -tam, tam);
+            }
+        }
+        return encolados;
+    }
+
+    private TextureRegion frameActual(int i) {
+        int indice = (int)(tiempo[i] / FRAME_DURACION);
+        if (tipo[i] == FLECHA) {
+            if (impactado[i]) {
+                return indice < FRAMES_FLECHA_IMPACTO ? framesFlechaImpacto[indice] : null;
+            }
+            return framesFlechaVuelo[indice % FRAMES_FLECHA_VUELO];
+        }
+        // El hechizo usa los mismos frames en vuelo (en bucle) y al impactar (una vez)
+        if (impactado[i]) {
+            return framesHechizo[Math.min(indice, FRAMES_HECHIZO - 1)];
+        }
+        return framesHechizo[indice % FRAMES_HECHIZO];
+    }
+
+    private void cargarFrames() {
+        framesFlechaVuelo = AtlasJuego.frames("PersonajesPrincipales/Arquero/Flecha/Flecha_Attack/", FRAMES_FLECHA_VUELO);
+        framesFlechaImpacto = AtlasJuego.frames("PersonajesPrincipales/Arquero/Flecha/Flecha_Hit/", FRAMES_FLECHA_IMPACTO);
+        framesHechizo = AtlasJuego.frames("PersonajesPrincipales/Mago/Hechizo/", FRAMES_HECHIZO);
+    }
+
+    // ——— CONSULTAS ———
+
+    /** @return cantidad de proyectiles activos */
+    public int size() { return cantidad; }
+
+    public int getTipo(int i) { return tipo[i]; }
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+    public boolean isImpactado(int i) { return impactado[i]; }
+
+    /** @return lado del sprite del proyectil en pixeles */
+    public float getTamano(int i) { return TAM_SPRITE * escala[i]; }
+
+    /**
+     * Escribe la hitbox del proyectil en el rectangulo dado.
+     * Flecha: cuadrado de 16 px escalado desplazado 8 px; hechizo: 60% del sprite, centrado.
+     * @return el mismo rectangulo recibido
+     */
+    public Rectangle getHitbox(int i, Rectangle salida) {
+        float esc = escala[i];
+        if (tipo[i] == FLECHA) {
+            return salida.set(x[i] + 8 * esc, y[i] + 8 * esc, 16 * esc, 16 * esc);
+        }
+        float tam = TAM_SPRITE * esc;
+        float lado = tam * 0.6f;
+        return salida.set(x[i] + (tam - lado) / 2, y[i] + (tam - lado) / 2, lado, lado);
+    }
+
+    /**
+     * Hitbox estirada hacia atras hasta la posicion del tick anterior. Asi un
+     * proyectil rapido no atraviesa a un enemigo aunque en un solo tick avance
+     * mas que el ancho de ambos (por ejemplo con la logica a menos de 60 Hz).
+     */
+    private Rectangle getHitboxBarrida(int i, Rectangle salida) {
+        getHitbox(i, salida);
+        float recorrido = x[i] - xPrevio[i];
+        if (recorrido > 0) {
+            salida.x -= recorrido;
+            salida.width += recorrido;
+        } else {
+            salida.width -= recorrido;
+        }
+        return salida;
+    }
+}
@@ -0,0 +1,105 @@
+package com.proyectofinal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mide cuanto tarda cada fase de la carga de una pantalla (generacion del mapa,
+ * texturas, HUD, ...) y el tiempo hasta que se dibuja el primer frame.
+ *
+ * Las fases se miden por vueltas, igual que en PerfilFrame: fase(nombre) cierra
+ * la fase con el tiempo transcurrido desde la marca anterior.
+ *
+ * Si se arranca el juego con -Drpg.carga.umbralMs=MS y el primer frame tarda mas
+ * que ese umbral, se lanza una IllegalStateException para detectar regresiones.
+ */
+public class TelemetriaCarga {
+
+    public static final String PROPIEDAD_UMBRAL = "rpg.carga.umbralMs";
+
+    private final String pantalla;
+    private final long inicio;
+    private long marca;
+
+    private final List<String> fases = new ArrayList<>();
+    private final List<Long> duraciones = new ArrayList<>();
+    private long nanosPrimerFrame = -1;
+
+    /**
+     * Empieza a medir desde este momento (normalmente al construir la pantalla).
+     * @param pantalla nombre que aparece en el reporte
+     */
+    public TelemetriaCarga(String pantalla) {
+        this.pantalla = pantalla;
+        this.inicio = System.nanoTime();
+        this.marca = inicio;
+    }
+
+    /**
+     * Descarta el tiempo desde la marca anterior; se usa justo antes de la
+     * primera fase para no contar lo que pasa entre construir y mostrar la pantalla.
+     */
+    public void reiniciarMarca() {
+        marca = System.nanoTime();
+    }
+
+    /**
+     * Cierra una fase con el tiempo transcurrido desde la marca anterior.
+     * @param nombre nombre de la fase en el reporte
+     */
+    public void fase(String nombre) {
+        long ahora = System.nanoTime();
+        fases.add(nombre);
+        duraciones.add(ahora - marca);
+        marca = ahora;
+    }
+
+    /** Imprime la duracion de cada fase y el total de la carga. */
+    public void reportarCarga() {
+        long total = 0;
+        StringBuilder sb = new StringBuilder("[carga] ").append(pantalla).append(':');
+        for (int i = 0; i < fases.size(); i++) {
+            long nanos = duraciones.get(i);
+            total += nanos;
+            sb.append(' ').append(fases.get(i)).append(' ').append(nanos / 1_000_000L).append(" ms,");
+        }
+        sb.append(" total ").append(total / 1_000_000L).append(" ms");
+        System.out.println(sb);
+    }
+
+    /**
+     * Se llama al terminar cada frame; solo el primero queda registrado.
+     * Reporta el tiempo desde la construccion hasta el primer frame dibujado.
+     */
+    public void finFrame() {
+        if (nanosPrimerFrame >= 0) return;
+        nanosPrimerFrame = System.nanoTime() - inicio;
+
+        long ms = nanosPrimerFrame / 1_000_000L;
+        System.out.println("[carga] " + pantalla + ": primer frame a los " + ms + " ms");
+
+        String umbral = System.getProperty(PROPIEDAD_UMBRAL);
+        if (umbral != null) {
+            try {
+                long umbralMs = Long.parseLong(umbral.trim());
+                if (ms > umbralMs) {
+                    throw new IllegalStateException("El primer frame de " + pantalla + " tardo " + ms
+                        + " ms (umbral " + umbralMs + " ms)");
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("Valor invalido para " + PROPIEDAD_UMBRAL + ": " + umbral);
+            }
+        }
+    }
+
+    /** @return duracion en nanosegundos de la fase indicada, o -1 si no se midio */
+    public long getNanosFase(String nombre) {
+        int i = fases.indexOf(nombre);
+        return i >= 0 ? duraciones.get(i) : -1;
+    }
+
+    /** @return nanosegundos desde la construccion hasta el primer frame, o -1 si aun no se dibujo */
+    public long getNanosPrimerFrame() {
+        return nanosPrimerFrame;
+    }
+}
@@ -0,0 +1,38 @@
+package com.proyectofinal;
+
+/**
+ * Tipos de enemigos conocidos por el juego y la informacion necesaria
+ * para cargar sus animaciones (carpeta base, duracion de frame y cantidad
+ * de frames por estado).
+ */
+public enum TipoEnemigo {
+    //          carpeta                 dur   idle walk run atk atk2 hit death
+    MINOTAURO("Enemigos/Minotauro/", 0.1f, 5,   5,   8,  9,  9,   3,  6);
+
+    private final String carpeta;
+    private final float duracionFrame;
+    private final int[] framesPorEstado;
+
+    TipoEnemigo(String carpeta, float duracionFrame, int... framesPorEstado) {
+        this.carpeta = carpeta;
+        this.duracionFrame = duracionFrame;
+        this.framesPorEstado = framesPorEstado;
+    }
+
+    public String getCarpeta() {
+        return carpeta;
+    }
+
+    public float getDuracionFrame() {
+        return duracionFrame;
+    }
+
+    /**
+     * Cantidad de frames de la animacion asociada a un estado.
+     * @param estado estado del enemigo
+     * @return numero de frames (en el mismo orden que EstadoEnemigo)
+     */
+    public int getFrames(Enemigo.EstadoEnemigo estado) {
+        return framesPorEstado[estado.ordinal()];
+    }
+}
@@ -0,0 +1,294 @@
+package com.proyectofinal;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.List;
+
+/**
+ * Actualizacion de los enemigos de un tick repartida entre varios hilos.
+ *
+ * La lista se divide en tramos contiguos, uno por hilo (el hilo que llama hace
+ * el primero). Cada hilo avanza la IA y el movimiento de sus enemigos, que solo
+ * modifican al propio enemigo; lo que toca estado compartido (reubicarse en la
+ * grilla, dañar al jugador) queda anotado en el IntencionesEnemigos del hilo.
+ * Despues, la fase de commit recorre la lista en un solo hilo y siempre en el
+ * mismo orden, aplica las intenciones de cada enemigo, publica su estado para
+ * los vecinos del tick siguiente y quita los que terminaron. Durante la
+ * actualizacion la grilla y el estado publicado no cambian, asi que el
+ * resultado no depende de cuantos hilos se usen.
+ *
+ * Con pocos enemigos repartir no compensa y se usa un solo tramo en el hilo
+ * que llama. La cantidad de hilos se puede fijar con -Drpg.ia.hilos=N (1 desactiva
+ * el paralelismo). Los hilos se crean recien la primera vez que hacen falta.
+ * Si un trabajador se interrumpe, termina el tramo que tuviera pendiente y los
+ * ticks siguientes se hacen en serie.
+ */
+public class TrabajosEnemigos implements Disposable {
+
+    public static final String PROPIEDAD_HILOS = "rpg.ia.hilos";
+    private static final int HILOS_MAXIMOS = 8;
+
+    // Enemigos minimos por hilo para que valga la pena repartir
+    private static final int MINIMO_POR_HILO = 128;
+
+    private final int hilosMaximos;
+    private Thread[] trabajadores;
+    private final IntencionesEnemigos[] buffers;
+    private final int[] inicio;
+    private final int[] fin;
+
+    // Sincronizacion entre el hilo que llama y los trabajadores
+    private final Object monitor = new Object();
+    private int generacion;
+    private int hilosTick;
+    private int pendientes;
+    private boolean cerrado;
+    private boolean soloEnSerie; // algun trabajador se interrumpio y ya no atiende ticks
+    private Throwable error;
+
+    // Parametros del tick en curso (se publican a los trabajadores a traves del monitor)
+    private List<Enemigo> enemigosTick;
+    private PlanificadorLOD lodTick;
+    private float deltaTick, jugadorXTick, jugadorYTick;
+
+    // Estadisticas
+    private int hilosUltimoTick;
+    private int intencionesUltimoTick;
+
+    /**
+     * @param hilos hilos como maximo, contando el que llama (1: siempre en serie)
+     */
+    public TrabajosEnemigos(int hilos) {
+        this.hilosMaximos = Math.max(1, Math.min(HILOS_MAXIMOS, hilos));
+        buffers = new IntencionesEnemigos[hilosMaximos];
+        for (int h = 0; h < hilosMaximos; h++) buffers[h] = new IntencionesEnemigos();
+        inicio = new int[hilosMaximos];
+        fin = new int[hilosMaximos];
+    }
+
+    /**
+     * Crea el repartidor con los hilos de la propiedad del sistema, o con uno
+     * por nucleo disponible si no esta.
+     */
+    public static TrabajosEnemigos desdePropiedades() {
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        String valor = System.getProperty(PROPIEDAD_HILOS);
+        if (valor == null) return new TrabajosEnemigos(nucleos);
+
+        try {
+            TrabajosEnemigos trabajos = new TrabajosEnemigos(Integer.parseInt(valor.trim()));
+            System.out.println("IA de enemigos con hasta " + trabajos.getHilosMaximos() + " hilo(s)");
+            return trabajos;
+        } catch (NumberFormatException e) {
+            System.err.println("Valor invalido para " + PROPIEDAD_HILOS + ": " + valor);
+            return new TrabajosEnemigos(nucleos);
+        }
+    }
+
+    /**
+     * Avanza un tick todos los enemigos y quita de la lista y de la grilla los
+     * que ya deben desaparecer. El planificador ya debe tener comenzado el tick.
+     * @param delta tiempo del tick en segundos
+     * @param eliminados lista donde se agregan los enemigos quitados (para
+     *                   devolverlos a su PoolEnemigos), o null para descartarlos
+     */
+    public void actualizar(List<Enemigo> enemigos, GrillaEnemigos grilla, PlanificadorLOD lod,
+                           float delta, float jugadorX, float jugadorY, List<Enemigo> eliminados) {
+        int n = enemigos.size();
+        int hilos = cerrado || soloEnSerie ? 1 : Math.max(1, Math.min(hilosMaximos, n / MINIMO_POR_HILO));
+        intencionesUltimoTick = 0;
+
+        hilosUltimoTick = hilos;
+        for (int h = 0; h < hilos; h++) {
+            inicio[h] = (int) ((long) n * h / hilos);
+            fin[h] = (int) ((long) n * (h + 1) / hilos);
+        }
+
+        // Fase de actualizacion: cada hilo avanza su tramo y anota intenciones.
+        // Con un solo tramo se hace en el hilo que llama, sin despertar a nadie
+        enemigosTick = enemigos;
+        lodTick = lod;
+        deltaTick = delta;
+        jugadorXTick = jugadorX;
+        jugadorYTick = jugadorY;
+        if (hilos == 1) procesarTramo(0);
+        else ejecutarEnParalelo(hilos);
+        enemigosTick = null;
+        lodTick = null;
+
+        // Fase de commit: de atras hacia adelante (tramos y enemigos), para
+        // aplicar todo en el mismo orden siempre. Los que terminaron se quitan
+        // en O(1) pasando el ultimo de la lista a su lugar: ese ya se recorrio,
+        // asi que el orden de lo que falta no cambia
+        for (int h = hilos - 1; h >= 0; h--) {
+            IntencionesEnemigos buffer = buffers[h];
+            int cursor = 0;
+            for (int i = fin[h] - 1; i >= inicio[h]; i--) {
+                Enemigo enemigo = enemigos.get(i);
+                while (cursor < buffer.cantidad && buffer.enemigo[cursor] == enemigo) {
+                    buffer.aplicar(cursor++);
+                }
+                if (enemigo.isReadyToRemove()) {
+                    int ultimo = enemigos.size() - 1;
+                    enemigos.set(i, enemigos.get(ultimo));
+                    enemigos.remove(ultimo);
+                    grilla.quitar(enemigo);
+                    if (eliminados != null) eliminados.add(enemigo);
+                } else {
+                    enemigo.publicarEstado();
+                }
+            }
+
+            for (int nivel = 0; nivel < PlanificadorLOD.NIVELES; nivel++) {
+                lod.contar(nivel, buffer.enemigosPorNivel[nivel], 0);
+            }
+            lod.contar(PlanificadorLOD.CERCA, 0, buffer.actualizacionesCompletas);
+            intencionesUltimoTick += buffer.cantidad;
+            buffer.limpiar();
+        }
+    }
+
+    /**
+     * Avanza el tramo de un hilo, de atras hacia adelante, anotando los
+     * efectos compartidos en su buffer.
+     */
+    private void procesarTramo(int h) {
+        IntencionesEnemigos buffer = buffers[h];
+        List<Enemigo> enemigos = enemigosTick;
+        PlanificadorLOD lod = lodTick;
+        for (int i = fin[h] - 1; i >= inicio[h]; i--) {
+            Enemigo enemigo = enemigos.get(i);
+            enemigo.intenciones = buffer;
+            int nivel = lod.nivel(enemigo);
+            buffer.enemigosPorNivel[nivel]++;
+            if (lod.ejecutar(enemigo, nivel, deltaTick, jugadorXTick, jugadorYTick)) {
+                buffer.actualizacionesCompletas++;
+            }
+            enemigo.intenciones = null;
+        }
+    }
+
+    /**
+     * Despierta a los trabajadores para los tramos 1..hilos-1, procesa el tramo 0
+     * en el hilo que llama y espera a que terminen todos.
+     */
+    private void ejecutarEnParalelo(int hilos) {
+        if (trabajadores == null) iniciarTrabajadores();
+
+        synchronized (monitor) {
+            if (soloEnSerie) {
+                // Un trabajador se interrumpio despues de repartir: todo en este hilo
+                for (int h = 0; h < hilos; h++) procesarTramo(h);
+                return;
+            }
+            hilosTick = hilos;
+            pendientes = hilos - 1;
+            error = null;
+            generacion++;
+            monitor.notifyAll();
+        }
+
+        Throwable propio = null;
+        try {
+            procesarTramo(0);
+        } catch (Throwable t) {
+            propio = t;
+        }
+
+        boolean interrumpido = false;
+        synchronized (monitor) {
+            while (pendientes > 0) {
+                try {
+                    monitor.wait();
+                } catch (InterruptedException e) {
+                    interrumpido = true;
+                }
+            }
+            if (propio == null) propio = error;
+        }
+        if (interrumpido) Thread.currentThread().interrupt();
+
+        if (propio != null) {
+            throw new RuntimeException("Error al actualizar enemigos en paralelo", propio);
+        }
+    }
+
+    private void iniciarTrabajadores() {
+        trabajadores = new Thread[hilosMaximos - 1];
+        for (int t = 0; t < trabajadores.length; t++) {
+            final int tramo = t + 1;
+            Thread hilo = new Thread(() -> trabajar(tramo), "ia-enemigos-" + tramo);
+            hilo.setDaemon(true);
+            hilo.start();
+            trabajadores[t] = hilo;
+        }
+    }
+
+    /**
+     * Bucle de un trabajador: espera cada tick y procesa su tramo si le toca.
+     * Si se interrumpe deja de atender ticks, pero antes termina (y descuenta)
+     * el que ya se le hubiera repartido, para que el hilo que llama no quede
+     * esperando; desde entonces el repartidor trabaja en serie.
+     */
+    private void trabajar(int tramo) {
+        int vista = 0;
+        boolean interrumpido = false;
+        while (true) {
+            int hilos;
+            synchronized (monitor) {
+                while (generacion == vista && !cerrado && !interrumpido) {
+                    try {
+                        monitor.wait();
+                    } catch (InterruptedException e) {
+                        interrumpido = true;
+                    }
+                }
+                if (cerrado) return;
+                if (interrumpido) {
+                    soloEnSerie = true;
+                    if (generacion == vista) return; // no tenia ningun tick pendiente
+                }
+                vista = generacion;
+                hilos = hilosTick;
+            }
+
+            // Si el tick usa menos hilos, este trabajador no tiene tramo
+            if (tramo >= hilos) {
+                if (interrumpido) return;
+                continue;
+            }
+
+            Throwable fallo = null;
+            try {
+                procesarTramo(tramo);
+            } catch (Throwable t) {
+                fallo = t;
+            }
+
+            synchronized (monitor) {
+                if (fallo != null && error == null) error = fallo;
+                if (--pendientes == 0) monitor.notifyAll();
+            }
+            if (interrumpido) return;
+        }
+    }
+
+    /** @return hilos como maximo, contando el que llama */
+    public int getHilosMaximos() { return hilosMaximos; }
+
+    /** @return hilos usados en el ultimo tick (1 si fue en serie) */
+    public int getHilosUltimoTick() { return hilosUltimoTick; }
+
+    /** @return intenciones aplicadas en la fase de commit del ultimo tick */
+    public int getIntencionesUltimoTick() { return intencionesUltimoTick; }
+
+    /** Detiene los trabajadores. */
+    @Override
+    public void dispose() {
+        synchronized (monitor) {
+            cerrado = true;
+            monitor.notifyAll();
+        }
+        trabajadores = null;
+    }
+}
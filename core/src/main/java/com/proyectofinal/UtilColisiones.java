@@ -42,15 +42,13 @@ public class UtilColisiones {
      * @return true si r1 (ampliado) colisiona con r2
      */
     public static boolean colisionConTolerancia(Rectangle r1, Rectangle r2, float tolerancia) {
-        // Expandir el primer rectangulo con la tolerancia dada
-        Rectangle r1Ampliado = new Rectangle(
-            r1.x - tolerancia,
-            r1.y - tolerancia,
-            r1.width + tolerancia * 2,
-            r1.height + tolerancia * 2
-        );
+        // Expandir el primer rectangulo con la tolerancia dada (sin crear uno nuevo)
+        float x = r1.x - tolerancia;
+        float y = r1.y - tolerancia;
+        float ancho = r1.width + tolerancia * 2;
+        float alto = r1.height + tolerancia * 2;
 
-        // Verificar si hay interseccion entre r1 ampliado y r2
-        return r1Ampliado.overlaps(r2);
+        // Verificar si hay interseccion entre r1 ampliado y r2 (misma regla que Rectangle.overlaps)
+        return x < r2.x + r2.width && x + ancho > r2.x && y < r2.y + r2.height && y + alto > r2.y;
     }
 }